@@ -0,0 +1,367 @@
+package fr.uge.fifo;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A circular queue that never stores more than {@code maxElement} elements.
+ * What happens when the queue is full is specified by an {@link Overflow} policy,
+ * either the producers wait for a slot to be freed or an element is dropped.
+ *
+ * @param <E> type of the elements.
+ */
+public final class BlockingFifo<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+	/**
+	 * What to do when an element is inserted in a full queue.
+	 */
+	public enum Overflow {
+		/**
+		 * {@code put} waits for a free slot, {@code offer} returns false.
+		 */
+		BLOCK,
+		/**
+		 * The oldest element (the head) is removed to make room for the new one.
+		 */
+		DROP_OLDEST,
+		/**
+		 * The new element is discarded, {@code offer} returns false and {@code put} returns normally.
+		 */
+		DROP_NEWEST
+	}
+
+	private final E[] array;
+	private final Overflow overflow;
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+	private final Condition notFull = lock.newCondition();
+	private int head;
+	private int tail;
+	private int size;
+	private long dropCount;
+
+	/**
+	 * Creates a queue storing at most {@code maxElement} elements.
+	 *
+	 * @param maxElement the capacity of the queue.
+	 * @param overflow the policy used when the queue is full.
+	 * @throws IllegalArgumentException if maxElement is not positive.
+	 * @throws NullPointerException if overflow is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public BlockingFifo(int maxElement, Overflow overflow) {
+		if(maxElement <= 0) {
+			throw new IllegalArgumentException();
+		}
+		this.overflow = Objects.requireNonNull(overflow);
+		array = (E[]) new Object[maxElement];
+	}
+
+	/**
+	 * Creates a queue storing at most {@code maxElement} elements
+	 * that makes the producers wait when it is full.
+	 *
+	 * @param maxElement the capacity of the queue.
+	 * @throws IllegalArgumentException if maxElement is not positive.
+	 */
+	public BlockingFifo(int maxElement) {
+		this(maxElement, Overflow.BLOCK);
+	}
+
+	/**
+	 * Returns the policy used when the queue is full.
+	 * @return the policy used when the queue is full.
+	 */
+	public Overflow overflow() {
+		return overflow;
+	}
+
+	/**
+	 * Returns the number of elements dropped because the queue was full.
+	 * @return the number of elements dropped because the queue was full.
+	 */
+	public long dropCount() {
+		lock.lock();
+		try {
+			return dropCount;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void enqueue(E value) {
+		array[tail] = value;
+		tail = tail == array.length - 1 ? 0 : tail + 1;
+		size++;
+		notEmpty.signal();
+	}
+
+	private E dequeue() {
+		var element = array[head];
+		array[head] = null;
+		head = head == array.length - 1 ? 0 : head + 1;
+		size--;
+		notFull.signal();
+		return element;
+	}
+
+	// must be called with the lock held, returns true if the value has been inserted
+	private boolean overflow(E value) {
+		switch(overflow) {
+		case BLOCK -> {
+			return false;
+		}
+		case DROP_OLDEST -> {
+			dequeue();
+			enqueue(value);
+			dropCount++;
+			return true;
+		}
+		case DROP_NEWEST -> {
+			dropCount++;
+			return false;
+		}
+		default -> throw new AssertionError(overflow);
+		}
+	}
+
+	/**
+	 * Inserts the element if there is a free slot, otherwise applies the overflow policy.
+	 * @return true if the element was inserted, false if the queue is full and the policy
+	 *         is {@link Overflow#BLOCK} or {@link Overflow#DROP_NEWEST}.
+	 */
+	@Override
+	public boolean offer(E value) {
+		Objects.requireNonNull(value);
+		lock.lock();
+		try {
+			if(size == array.length) {
+				return overflow(value);
+			}
+			enqueue(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public boolean offer(E value, long timeout, TimeUnit unit) throws InterruptedException {
+		Objects.requireNonNull(value);
+		Objects.requireNonNull(unit);
+		var nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			if(overflow != Overflow.BLOCK && size == array.length) {
+				return overflow(value);
+			}
+			while(size == array.length) {
+				if(nanos <= 0) {
+					return false;
+				}
+				nanos = notFull.awaitNanos(nanos);
+			}
+			enqueue(value);
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void put(E value) throws InterruptedException {
+		Objects.requireNonNull(value);
+		lock.lockInterruptibly();
+		try {
+			if(overflow != Overflow.BLOCK && size == array.length) {
+				overflow(value);
+				return;
+			}
+			while(size == array.length) {
+				notFull.await();
+			}
+			enqueue(value);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public E poll() {
+		lock.lock();
+		try {
+			return size == 0 ? null : dequeue();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+		Objects.requireNonNull(unit);
+		var nanos = unit.toNanos(timeout);
+		lock.lockInterruptibly();
+		try {
+			while(size == 0) {
+				if(nanos <= 0) {
+					return null;
+				}
+				nanos = notEmpty.awaitNanos(nanos);
+			}
+			return dequeue();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public E take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while(size == 0) {
+				notEmpty.await();
+			}
+			return dequeue();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public E peek() {
+		lock.lock();
+		try {
+			return array[head];  // null if empty
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int size() {
+		lock.lock();
+		try {
+			return size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int remainingCapacity() {
+		lock.lock();
+		try {
+			return array.length - size;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection) {
+		return drainTo(collection, Integer.MAX_VALUE);
+	}
+
+	@Override
+	public int drainTo(Collection<? super E> collection, int maxElements) {
+		Objects.requireNonNull(collection);
+		if(collection == this) {
+			throw new IllegalArgumentException();
+		}
+		lock.lock();
+		try {
+			var count = Math.min(maxElements, size);
+			for(var i = 0; i < count; i++) {
+				collection.add(dequeue());
+			}
+			return Math.max(count, 0);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		lock.lock();
+		try {
+			for(var i = 0; i < size; i++) {
+				array[(head + i) % array.length] = null;
+			}
+			head = 0;
+			tail = 0;
+			size = 0;
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		lock.lock();
+		try {
+			var stringJoiner = new StringJoiner(", ", "[", "]");
+			for(var i = 0; i < size; i++) {
+				stringJoiner.add(array[(head + i) % array.length].toString());
+			}
+			return stringJoiner.toString();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns an iterator that must not be used concurrently with a modification of the queue,
+	 * it does not support {@code remove}.
+	 *
+	 * @throws ConcurrentModificationException if the queue is modified during the iteration.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		lock.lock();
+		try {
+			return new Iterator<E>() {
+				private int cursor = head;
+				private int remaining = size;
+				private final int expectedTail = tail;
+
+				@Override
+				public boolean hasNext() {
+					return remaining > 0;
+				}
+
+				@Override
+				public E next() {
+					if(!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					lock.lock();
+					try {
+						if(tail != expectedTail) {
+							throw new ConcurrentModificationException();
+						}
+						var element = array[cursor];
+						if(element == null) {
+							throw new ConcurrentModificationException();
+						}
+						cursor = cursor == array.length - 1 ? 0 : cursor + 1;
+						remaining--;
+						return element;
+					} finally {
+						lock.unlock();
+					}
+				}
+			};
+		} finally {
+			lock.unlock();
+		}
+	}
+}
@@ -0,0 +1,187 @@
+package fr.uge.fifo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A bounded, lock-free, multi-producer/multi-consumer circular queue.
+ * Each slot carries a sequence number that tells producers and consumers
+ * whether the slot is ready to be written or read (Dmitry Vyukov's algorithm),
+ * so {@code offer} and {@code poll} only need one CAS on {@code tail} or {@code head}.
+ *
+ * @param <E> type of the elements.
+ */
+public final class ConcurrentFifo<E> extends AbstractQueue<E> {
+	private static final VarHandle HEAD, TAIL;
+	static {
+		var lookup = MethodHandles.lookup();
+		try {
+			HEAD = lookup.findVarHandle(ConcurrentFifo.class, "head", long.class);
+			TAIL = lookup.findVarHandle(ConcurrentFifo.class, "tail", long.class);
+		} catch (NoSuchFieldException | IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private final E[] array;
+	private final AtomicLongArray sequences;
+	private final int mask;
+
+	// head and tail are written by different threads, keep them on different cache lines
+	@SuppressWarnings("unused")
+	private long p01, p02, p03, p04, p05, p06, p07;
+	private volatile long head;
+	@SuppressWarnings("unused")
+	private long p11, p12, p13, p14, p15, p16, p17;
+	private volatile long tail;
+	@SuppressWarnings("unused")
+	private long p21, p22, p23, p24, p25, p26, p27;
+
+	/**
+	 * Creates a queue able to store at least {@code maxElement} elements,
+	 * the capacity is rounded up to the next power of two.
+	 *
+	 * @param maxElement the minimal capacity of the queue.
+	 * @throws IllegalArgumentException if maxElement is not positive or too big.
+	 */
+	@SuppressWarnings("unchecked")
+	public ConcurrentFifo(int maxElement) {
+		if(maxElement <= 0 || maxElement > 1 << 30) {
+			throw new IllegalArgumentException();
+		}
+		var capacity = Integer.highestOneBit(maxElement);
+		if(capacity != maxElement) {
+			capacity <<= 1;
+		}
+		array = (E[]) new Object[capacity];
+		mask = capacity - 1;
+		sequences = new AtomicLongArray(capacity);
+		for(var i = 0; i < capacity; i++) {
+			sequences.setPlain(i, i);
+		}
+	}
+
+	/**
+	 * Returns the number of slots of this queue.
+	 * @return the number of slots of this queue.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	@Override
+	public boolean offer(E value) {
+		Objects.requireNonNull(value);
+		var position = tail;
+		for(;;) {
+			var index = (int) (position & mask);
+			var difference = sequences.getAcquire(index) - position;
+			if(difference == 0) {
+				if(TAIL.compareAndSet(this, position, position + 1)) {
+					array[index] = value;
+					sequences.setRelease(index, position + 1);
+					return true;
+				}
+				position = tail;
+			} else if(difference < 0) {
+				return false;  // full
+			} else {
+				position = tail;
+			}
+		}
+	}
+
+	@Override
+	public E poll() {
+		var position = head;
+		for(;;) {
+			var index = (int) (position & mask);
+			var difference = sequences.getAcquire(index) - (position + 1);
+			if(difference == 0) {
+				if(HEAD.compareAndSet(this, position, position + 1)) {
+					var element = array[index];
+					array[index] = null;
+					sequences.setRelease(index, position + array.length);
+					return element;
+				}
+				position = head;
+			} else if(difference < 0) {
+				return null;  // empty
+			} else {
+				position = head;
+			}
+		}
+	}
+
+	@Override
+	public E peek() {
+		for(;;) {
+			var position = head;
+			var index = (int) (position & mask);
+			if(sequences.getAcquire(index) != position + 1) {
+				if(position == head) {
+					return null;  // empty
+				}
+				continue;
+			}
+			var element = array[index];
+			// the element is only valid if no consumer took the slot in between
+			if(element != null && position == head) {
+				return element;
+			}
+		}
+	}
+
+	@Override
+	public int size() {
+		for(;;) {
+			var before = head;
+			var currentTail = tail;
+			if(before == head) {
+				return (int) Math.max(0, Math.min(currentTail - before, array.length));
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns a weakly consistent iterator, a snapshot of the elements
+	 * present when the method is called, that does not support {@code remove}.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		var snapshot = new ArrayList<E>();
+		var end = tail;
+		for(var position = head; position < end; position++) {
+			var index = (int) (position & mask);
+			if(sequences.getAcquire(index) != position + 1) {
+				continue;
+			}
+			var element = array[index];
+			if(element != null) {
+				snapshot.add(element);
+			}
+		}
+		var iterator = snapshot.iterator();
+		return new Iterator<E>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return iterator.next();
+			}
+		};
+	}
+}
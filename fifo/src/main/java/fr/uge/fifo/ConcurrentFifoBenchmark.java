@@ -0,0 +1,53 @@
+package fr.uge.fifo;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// the number of threads can be changed on the command line, e.g. -t 16
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ConcurrentFifoBenchmark {
+	private static final Integer VALUE = 42;
+
+	@Param({ "ConcurrentFifo", "ArrayBlockingQueue", "ConcurrentLinkedQueue" })
+	private String implementation;
+
+	private Queue<Integer> queue;
+
+	@Setup
+	public void setup() {
+		queue = switch(implementation) {
+		case "ConcurrentFifo" -> new ConcurrentFifo<>(1_024);
+		case "ArrayBlockingQueue" -> new ArrayBlockingQueue<>(1_024);
+		case "ConcurrentLinkedQueue" -> new ConcurrentLinkedQueue<>();
+		default -> throw new AssertionError(implementation);
+		};
+	}
+
+	// each thread is both a producer and a consumer so an unbounded queue can not grow forever
+	@Benchmark
+	public Integer offerPoll() {
+		queue.offer(VALUE);
+		return queue.poll();
+	}
+}
@@ -2,19 +2,31 @@ package fr.uge.fifo;
 
 import java.util.AbstractQueue;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class Fifo<E> extends AbstractQueue<E> implements Iterable<E>{
 
 	private static final int SIZEMAX =16;
+	// the array is halved when it is at most a quarter full, so that it is half full after,
+	// this hysteresis avoids to shrink and grow again when the size oscillates
+	private static final int SHRINK_RATIO = 4;
 	private int head;
 	private int tail;
 	private E[] array;
 	private int size;
+	// incremented by each modification, used by the iterator and the spliterator to fail fast
+	private int modCount;
+	private int growCount;
+	private int shrinkCount;
 
 	@SuppressWarnings("unchecked")
 	public Fifo(int maxElement) {
@@ -38,6 +50,7 @@ public class Fifo<E> extends AbstractQueue<E> implements Iterable<E>{
 		}
 		array[tail]=value;
 		size++;
+		modCount++;
 		tail = (tail+1)%array.length;
 		return true;
 	}
@@ -47,16 +60,142 @@ public class Fifo<E> extends AbstractQueue<E> implements Iterable<E>{
 	}
 
 	public E poll(){
-		if(head==array.length) {
-			throw new IllegalStateException();
+		if(size()==0) {
+			return null;
 		}
 		E element = array[head];
 		array[head]=null;
 		head = (head+1)%array.length;
 		size--;
+		modCount++;
+		shrinkIfSparse();
 		return element;
 	}
 
+	private void shrinkIfSparse() {
+		var capacity = array.length;
+		while(capacity > SIZEMAX && size() <= capacity / SHRINK_RATIO) {
+			capacity = Math.max(SIZEMAX, capacity >> 1);
+		}
+		if(capacity != array.length) {
+			resize(capacity);
+			shrinkCount++;
+		}
+	}
+
+	// grow once to a power of two multiple of the current capacity
+	private void ensureCapacity(int capacity) {
+		if(capacity < 0 || capacity > Integer.MAX_VALUE - 8) {
+			throw new OutOfMemoryError();
+		}
+		if(capacity <= array.length) {
+			return;
+		}
+		var newCapacity = (long) array.length;
+		while(newCapacity < capacity) {
+			newCapacity <<= 1;
+		}
+		resize((int) Math.min(newCapacity, Integer.MAX_VALUE - 8));
+		growCount++;
+	}
+
+	public void offerAll(E[] values) {
+		Objects.requireNonNull(values);
+		append(values);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends E> collection) {
+		Objects.requireNonNull(collection);
+		if(collection == this) {
+			throw new IllegalArgumentException();
+		}
+		return append(collection.toArray()) != 0;
+	}
+
+	// copy the values after the tail with at most two arraycopy, before and after the wrap point
+	private int append(Object[] values) {
+		for(var value: values) {
+			Objects.requireNonNull(value);
+		}
+		var length = values.length;
+		ensureCapacity(size() + length);
+		var firstPart = Math.min(length, array.length-tail);
+		System.arraycopy(values, 0, array, tail, firstPart);
+		System.arraycopy(values, firstPart, array, 0, length-firstPart);
+		tail = (tail+length)%array.length;
+		size += length;
+		modCount++;
+		return length;
+	}
+
+	public int drainTo(Collection<? super E> collection, int max) {
+		Objects.requireNonNull(collection);
+		if(collection == this) {
+			throw new IllegalArgumentException();
+		}
+		if(max < 0) {
+			throw new IllegalArgumentException();
+		}
+		var count = Math.min(max, size());
+		var drained = copyTo(new Object[count], count);
+		@SuppressWarnings("unchecked")
+		var list = (List<E>) Arrays.asList(drained);
+		collection.addAll(list);
+		var firstPart = Math.min(count, array.length-head);
+		Arrays.fill(array, head, head+firstPart, null);
+		Arrays.fill(array, 0, count-firstPart, null);
+		head = (head+count)%array.length;
+		size -= count;
+		modCount++;
+		shrinkIfSparse();
+		return count;
+	}
+
+	// copy the count first elements from the head with at most two arraycopy
+	private <T> T[] copyTo(T[] destination, int count) {
+		var firstPart = Math.min(count, array.length-head);
+		System.arraycopy(array, head, destination, 0, firstPart);
+		System.arraycopy(array, 0, destination, firstPart, count-firstPart);
+		return destination;
+	}
+
+	@Override
+	public Object[] toArray() {
+		return copyTo(new Object[size()], size());
+	}
+
+	@Override
+	public <T> T[] toArray(T[] destination) {
+		Objects.requireNonNull(destination);
+		var size = size();
+		if(destination.length < size) {
+			destination = Arrays.copyOf(destination, size);
+		} else if(destination.length > size) {
+			destination[size] = null;
+		}
+		return copyTo(destination, size);
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		if(o == null) {
+			return false;
+		}
+		var firstPart = Math.min(size(), array.length-head);
+		for(var i = head; i < head+firstPart; i++) {
+			if(o.equals(array[i])) {
+				return true;
+			}
+		}
+		for(var i = 0; i < size()-firstPart; i++) {
+			if(o.equals(array[i])) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	public E peek() {
 		if (size()<=0) {
 			return null;
@@ -64,21 +203,40 @@ public class Fifo<E> extends AbstractQueue<E> implements Iterable<E>{
 		return array[head];
 	}
 
-	@SuppressWarnings("unchecked")
 	public void resize() {
-		E[] array2 = array;
-
-		array = (E[]) new Object[array.length <<1];
+		resize(array.length <<1);
+		growCount++;
+	}
 
-		if(head ==0) {
-			array = Arrays.copyOf(array2, array.length <<1);
-			tail = size();
-			return;
+	public void trimToSize() {
+		if(array.length != Math.max(size(), 1)) {
+			resize(Math.max(size(), 1));
+			shrinkCount++;
 		}
-		System.arraycopy(array2, head, array, 0, array2.length-head);
-		System.arraycopy(array2, 0, array, array2.length-head, tail);
-		tail =size();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void resize(int capacity) {
+		E[] array2 = array;
+		array = (E[]) new Object[capacity];
+		var firstPart = Math.min(size(), array2.length-head);
+		System.arraycopy(array2, head, array, 0, firstPart);
+		System.arraycopy(array2, 0, array, firstPart, size()-firstPart);
+		tail = size()%capacity;
 		head=0;
+		modCount++;
+	}
+
+	public int capacity() {
+		return array.length;
+	}
+
+	public int growCount() {
+		return growCount;
+	}
+
+	public int shrinkCount() {
+		return shrinkCount;
 	}
 
 	@Override
@@ -95,11 +253,12 @@ public class Fifo<E> extends AbstractQueue<E> implements Iterable<E>{
 	public Iterator<E> iterator() {
 		return new Iterator<E>(){
 			private int cursor = head;
-			private int selfsize;
+			private int remaining = size();
+			private final int expectedModCount = modCount;
 
 			@Override
 			public boolean hasNext() {
-				return selfsize < size();
+				return remaining > 0;
 			}
 
 			@Override
@@ -107,21 +266,105 @@ public class Fifo<E> extends AbstractQueue<E> implements Iterable<E>{
 				if(!hasNext()) {
 					throw new NoSuchElementException();
 				}
+				if(modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
 				var element = array[cursor];
-				cursor = (cursor+1)%array.length;
-				selfsize++;
+				cursor = cursor == array.length-1 ? 0 : cursor+1;
+				remaining--;
 				return element;
 			}
 
 		};
 	}
 
+	@Override
+	public Spliterator<E> spliterator() {
+		return new FifoSpliterator(0, size(), modCount);
+	}
+
+	// positions are relative to the head, a split cuts at the wrap point first
+	// so that each part is a contiguous segment of the array
+	private final class FifoSpliterator implements Spliterator<E> {
+		private final E[] elements = array;
+		private final int offset = head;
+		private int index;
+		private final int end;
+		private final int expectedModCount;
+
+		private FifoSpliterator(int index, int end, int expectedModCount) {
+			this.index = index;
+			this.end = end;
+			this.expectedModCount = expectedModCount;
+		}
+
+		private int physical(int position) {
+			var physical = offset + position;
+			return physical >= elements.length ? physical - elements.length : physical;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			if(index >= end) {
+				return false;
+			}
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+			action.accept(elements[physical(index++)]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super E> action) {
+			Objects.requireNonNull(action);
+			var wrap = elements.length - offset;
+			for(var i = index; i < Math.min(end, wrap); i++) {
+				action.accept(elements[offset + i]);
+			}
+			for(var i = Math.max(index, wrap); i < end; i++) {
+				action.accept(elements[i - wrap]);
+			}
+			index = end;
+			if(modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		@Override
+		public Spliterator<E> trySplit() {
+			var wrap = elements.length - offset;
+			var middle = index < wrap && wrap < end ? wrap : (index + end) >>> 1;
+			if(middle <= index || middle >= end) {
+				return null;
+			}
+			var prefix = new FifoSpliterator(index, middle, expectedModCount);
+			index = middle;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | NONNULL;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
 	public void clear() {
-		var s = size();
-		for(var i =0; i < s;i++) {
-			array[i]=null;
-			size--;
+		if(array.length > SIZEMAX) {
+			array = (E[]) new Object[SIZEMAX];
+			shrinkCount++;
+		} else {
+			Arrays.fill(array, null);
 		}
+		size = 0;
+		modCount++;
 		head = 0;
 		tail = 0;
 	}
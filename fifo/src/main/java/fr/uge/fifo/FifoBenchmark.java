@@ -0,0 +1,131 @@
+package fr.uge.fifo;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// single thread workloads, see FifoContendedBenchmark for several threads
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FifoBenchmark {
+	private static final int COUNT = 1_024;
+	private static final Integer VALUE = 42;
+
+	@Param({ "Fifo", "ArrayDeque", "ArrayBlockingQueue" })
+	private String implementation;
+
+	@Param({ "16", "65536" })
+	private int size;
+
+	private Queue<Integer> queue;
+	private Queue<Integer> wrapped;
+
+	private Queue<Integer> create(int capacity) {
+		return switch(implementation) {
+		case "Fifo" -> new Fifo<>(capacity);
+		case "ArrayDeque" -> new ArrayDeque<>(capacity);
+		// an ArrayBlockingQueue can not grow, give it enough room for the resize benchmark
+		case "ArrayBlockingQueue" -> new ArrayBlockingQueue<>(Math.max(capacity, size));
+		default -> throw new AssertionError(implementation);
+		};
+	}
+
+	@Setup
+	public void setup() {
+		queue = create(size);
+		// the head of wrapped is in the middle of the array and wrapped is half full,
+		// so the elements cross the wrap point without any implementation growing or being full
+		wrapped = create(size);
+		for(var i = 0; i < size / 2; i++) {
+			wrapped.offer(VALUE);
+			wrapped.poll();
+		}
+		for(var i = 0; i < size / 2; i++) {
+			if(!wrapped.offer(i)) {
+				throw new AssertionError(implementation + " is full");
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int offer_poll() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			queue.offer(VALUE);
+			sum += queue.poll();
+		}
+		return sum;
+	}
+
+	// the queue is half full, each offer and poll crosses the wrap point after a while
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int offer_poll_wrap_around() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			wrapped.offer(VALUE);
+			sum += wrapped.poll();
+		}
+		return sum;
+	}
+
+	// start from a small queue and grow up to size elements
+	@Benchmark
+	public Queue<Integer> resize() {
+		var queue = create(16);
+		for(var i = 0; i < size; i++) {
+			queue.offer(VALUE);
+		}
+		return queue;
+	}
+
+	@Benchmark
+	public void iterate(Blackhole blackhole) {
+		for(var element: wrapped) {
+			blackhole.consume(element);
+		}
+	}
+
+	@Benchmark
+	public long stream_sum() {
+		return wrapped.stream().mapToLong(Integer::longValue).sum();
+	}
+
+	@Benchmark
+	public Object[] to_array() {
+		return wrapped.toArray();
+	}
+
+	// runs all the fifo benchmarks with the GC profiler to report the allocation rate
+	public static void main(String[] args) throws RunnerException {
+		var options = new OptionsBuilder()
+				.include("fr\\.uge\\.fifo\\..*Benchmark")
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
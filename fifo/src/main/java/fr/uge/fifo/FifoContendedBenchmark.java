@@ -0,0 +1,68 @@
+package fr.uge.fifo;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+// Fifo and ArrayDeque are not thread safe, they are guarded by a lock like in the applications,
+// the number of threads can be changed on the command line, e.g. -t 16
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+public class FifoContendedBenchmark {
+	private static final Integer VALUE = 42;
+
+	@Param({ "Fifo", "ArrayDeque", "ArrayBlockingQueue", "BlockingFifo", "ConcurrentFifo" })
+	private String implementation;
+
+	private Queue<Integer> queue;
+	private final ReentrantLock lock = new ReentrantLock();
+	private boolean guarded;
+
+	@Setup
+	public void setup() {
+		guarded = implementation.equals("Fifo") || implementation.equals("ArrayDeque");
+		queue = switch(implementation) {
+		case "Fifo" -> new Fifo<>(1_024);
+		case "ArrayDeque" -> new ArrayDeque<>(1_024);
+		case "ArrayBlockingQueue" -> new ArrayBlockingQueue<>(1_024);
+		case "BlockingFifo" -> new BlockingFifo<>(1_024);
+		case "ConcurrentFifo" -> new ConcurrentFifo<>(1_024);
+		default -> throw new AssertionError(implementation);
+		};
+	}
+
+	@Benchmark
+	public Integer offer_poll() {
+		if(!guarded) {
+			queue.offer(VALUE);
+			return queue.poll();
+		}
+		lock.lock();
+		try {
+			queue.offer(VALUE);
+			return queue.poll();
+		} finally {
+			lock.unlock();
+		}
+	}
+}
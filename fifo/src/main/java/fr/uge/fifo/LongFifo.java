@@ -0,0 +1,173 @@
+package fr.uge.fifo;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.StringJoiner;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A circular queue of {@code long}s that grows when full, the values are not boxed.
+ * The capacity is always a power of two so the slots are found with a mask.
+ */
+public final class LongFifo {
+	private static final int SIZEMAX = 16;
+	private long[] array;
+	private int head;
+	private int tail;
+	private int size;
+	private int modCount;
+
+	/**
+	 * Creates a queue with an initial capacity of at least {@code maxElement}.
+	 *
+	 * @param maxElement the initial capacity.
+	 * @throws IllegalArgumentException if maxElement is not positive or too big.
+	 */
+	public LongFifo(int maxElement) {
+		if(maxElement <= 0 || maxElement > 1 << 30) {
+			throw new IllegalArgumentException();
+		}
+		var capacity = Integer.highestOneBit(maxElement);
+		if(capacity != maxElement) {
+			capacity <<= 1;
+		}
+		array = new long[capacity];
+	}
+
+	public LongFifo() {
+		this(SIZEMAX);
+	}
+
+	/**
+	 * Adds a value at the end of the queue.
+	 * @param value the value to add.
+	 */
+	public void offerLong(long value) {
+		if(size == array.length) {
+			resize();
+		}
+		array[tail] = value;
+		tail = (tail + 1) & (array.length - 1);
+		size++;
+		modCount++;
+	}
+
+	/**
+	 * Removes the value at the head of the queue.
+	 * @return the value at the head of the queue.
+	 * @throws NoSuchElementException if the queue is empty.
+	 */
+	public long pollLong() {
+		if(size == 0) {
+			throw new NoSuchElementException();
+		}
+		var value = array[head];
+		head = (head + 1) & (array.length - 1);
+		size--;
+		modCount++;
+		return value;
+	}
+
+	/**
+	 * Returns the value at the head of the queue without removing it.
+	 * @return the value at the head of the queue.
+	 * @throws NoSuchElementException if the queue is empty.
+	 */
+	public long peekLong() {
+		if(size == 0) {
+			throw new NoSuchElementException();
+		}
+		return array[head];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public void clear() {
+		head = 0;
+		tail = 0;
+		size = 0;
+		modCount++;
+	}
+
+	private void resize() {
+		var newArray = new long[array.length << 1];
+		System.arraycopy(array, head, newArray, 0, array.length - head);
+		System.arraycopy(array, 0, newArray, array.length - head, tail);
+		head = 0;
+		tail = size;
+		array = newArray;
+	}
+
+	/**
+	 * Returns the values of the queue from the head to the tail.
+	 * @return a new array containing the values of the queue.
+	 */
+	public long[] toArray() {
+		var result = new long[size];
+		var firstPart = Math.min(size, array.length - head);
+		System.arraycopy(array, head, result, 0, firstPart);
+		System.arraycopy(array, 0, result, firstPart, size - firstPart);
+		return result;
+	}
+
+	/**
+	 * Returns an iterator from the head to the tail of the queue.
+	 * @return an iterator that does not box the values.
+	 * @throws ConcurrentModificationException if the queue is modified during the iteration.
+	 */
+	public PrimitiveIterator.OfLong iterator() {
+		return new PrimitiveIterator.OfLong() {
+			private int cursor = head;
+			private int remaining = size;
+			private final int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public long nextLong() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				if(modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				var value = array[cursor];
+				cursor = (cursor + 1) & (array.length - 1);
+				remaining--;
+				return value;
+			}
+		};
+	}
+
+	/**
+	 * Returns a stream of the values from the head to the tail of the queue.
+	 * @return a stream of the values of the queue.
+	 */
+	public LongStream stream() {
+		return StreamSupport.longStream(
+				Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.NONNULL),
+				false);
+	}
+
+	@Override
+	public String toString() {
+		var stringJoiner = new StringJoiner(", ", "[", "]");
+		for(var i = 0; i < size; i++) {
+			stringJoiner.add("" + array[(head + i) & (array.length - 1)]);
+		}
+		return stringJoiner.toString();
+	}
+}
@@ -0,0 +1,364 @@
+package fr.uge.fifo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractQueue;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A persistent circular queue stored in a memory-mapped file, so the elements
+ * are not on the heap and survive a restart of the process.
+ * The elements are serialized by a {@link Codec} and stored as records
+ * prefixed by their length, head and tail are stored in the header of the file
+ * and the file can be reopened with {@link #open(Path, long, Codec)}.
+ * A file of small records can contain more than {@code Integer.MAX_VALUE} elements,
+ * {@link #size()} is then capped and {@link #longSize()} returns the exact number.
+ * This class is not thread safe.
+ *
+ * @param <E> type of the elements.
+ */
+public final class MappedFifo<E> extends AbstractQueue<E> implements Closeable {
+	/**
+	 * Converts an element to bytes and back.
+	 *
+	 * @param <E> type of the elements.
+	 */
+	public interface Codec<E> {
+		/**
+		 * Serializes an element.
+		 * @param value the element.
+		 * @return the bytes of the element.
+		 */
+		byte[] encode(E value);
+
+		/**
+		 * Deserializes an element.
+		 * @param bytes the bytes returned by {@link #encode(Object)}.
+		 * @return the element.
+		 */
+		E decode(byte[] bytes);
+
+		/**
+		 * Returns a codec that stores strings encoded in UTF-8.
+		 * @return a codec that stores strings encoded in UTF-8.
+		 */
+		static Codec<String> utf8() {
+			return new Codec<>() {
+				@Override
+				public byte[] encode(String value) {
+					return value.getBytes(StandardCharsets.UTF_8);
+				}
+
+				@Override
+				public String decode(byte[] bytes) {
+					return new String(bytes, StandardCharsets.UTF_8);
+				}
+			};
+		}
+	}
+
+	private static final int MAGIC = 0x46494630;  // FIF0
+	private static final int HEADER_SIZE = 64;
+	private static final int CAPACITY_OFFSET = 8;
+	private static final int HEAD_OFFSET = 16;
+	private static final int TAIL_OFFSET = 24;
+	private static final int MAX_SEGMENT_SIZE = 1 << 30;
+	private static final int SKIP = -1;
+	private static final int DEFAULT_FORCE_INTERVAL = 1_024;
+
+	private final FileChannel channel;
+	private final Codec<E> codec;
+	private final int forceInterval;
+	private final MappedByteBuffer header;
+	// a mapping is limited to 2 gigs, so the ring is split in segments, a record never spans two segments
+	private final MappedByteBuffer[] segments;
+	private final int segmentSize;
+	private final long capacity;
+	// logical positions, they only grow, the position in the file is position % capacity
+	private long head;
+	private long tail;
+	private long size;
+	private int modCount;
+	private int unforcedCount;
+
+	private MappedFifo(FileChannel channel, Codec<E> codec, int forceInterval, long requestedCapacity) throws IOException {
+		this.channel = channel;
+		this.codec = codec;
+		this.forceInterval = forceInterval;
+		var exists = channel.size() >= HEADER_SIZE;
+		header = channel.map(MapMode.READ_WRITE, 0, HEADER_SIZE);
+		if(exists) {
+			if(header.getInt(0) != MAGIC) {
+				throw new IOException("not a fifo file");
+			}
+			capacity = header.getLong(CAPACITY_OFFSET);
+			head = header.getLong(HEAD_OFFSET);
+			tail = header.getLong(TAIL_OFFSET);
+		} else {
+			var segment = Math.min(requestedCapacity, MAX_SEGMENT_SIZE);
+			capacity = (requestedCapacity + segment - 1) / segment * segment;
+			header.putInt(0, MAGIC);
+			header.putLong(CAPACITY_OFFSET, capacity);
+			header.putLong(HEAD_OFFSET, 0);
+			header.putLong(TAIL_OFFSET, 0);
+		}
+		segmentSize = (int) Math.min(capacity, MAX_SEGMENT_SIZE);
+		if(capacity <= 0 || capacity % segmentSize != 0 || head < 0 || tail < head || tail - head > capacity) {
+			throw new IOException("corrupted fifo file");
+		}
+		segments = new MappedByteBuffer[(int) (capacity / segmentSize)];
+		for(var i = 0; i < segments.length; i++) {
+			segments[i] = channel.map(MapMode.READ_WRITE, HEADER_SIZE + (long) i * segmentSize, segmentSize);
+		}
+		size = recoverSize();
+	}
+
+	/**
+	 * Opens or creates a queue stored in a file, the file is forced to the storage device
+	 * every 1024 modifications and when the queue is closed.
+	 * The modifications are written in the page cache of the OS as soon as they are done,
+	 * so they survive a crash of the process, but up to 1023 of them can be lost if the
+	 * machine crashes. Use {@link #open(Path, long, Codec, int)} with an interval of 1
+	 * to force after each modification, at the price of a write to the device per operation.
+	 *
+	 * @see #open(Path, long, Codec, int)
+	 */
+	public static <E> MappedFifo<E> open(Path path, long capacity, Codec<E> codec) throws IOException {
+		return open(path, capacity, codec, DEFAULT_FORCE_INTERVAL);
+	}
+
+	/**
+	 * Opens or creates a queue stored in a file.
+	 * If the file already exists, the elements it contains are available and
+	 * the capacity stored in the file is used instead of {@code capacity}.
+	 *
+	 * @param <E> type of the elements.
+	 * @param path the file storing the queue.
+	 * @param capacity the number of bytes used to store the elements, a record takes 4 bytes plus its encoded size.
+	 * @param codec the codec used to serialize the elements.
+	 * @param forceInterval the number of modifications between two calls to {@link #force()}.
+	 * @return a queue stored in the file.
+	 * @throws IOException if the file can not be opened or is not a valid queue file.
+	 * @throws IllegalArgumentException if capacity or forceInterval is not positive.
+	 */
+	public static <E> MappedFifo<E> open(Path path, long capacity, Codec<E> codec, int forceInterval) throws IOException {
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(codec);
+		if(capacity <= 0 || forceInterval <= 0) {
+			throw new IllegalArgumentException();
+		}
+		var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			return new MappedFifo<>(channel, codec, forceInterval, capacity);
+		} catch(IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private long recoverSize() throws IOException {
+		var count = 0L;
+		for(var position = head; position < tail; count++) {
+			position = nextRecord(position);
+			var length = segment(position).getInt(offset(position));
+			if(length < 0 || length > segmentSize - Integer.BYTES) {
+				throw new IOException("corrupted fifo file");
+			}
+			position += Integer.BYTES + length;
+		}
+		return count;
+	}
+
+	private MappedByteBuffer segment(long position) {
+		return segments[(int) (position % capacity / segmentSize)];
+	}
+
+	private int offset(long position) {
+		return (int) (position % segmentSize);
+	}
+
+	// skip the end of a segment if it does not contain a record
+	private long nextRecord(long position) {
+		var remaining = segmentSize - offset(position);
+		if(remaining < Integer.BYTES || segment(position).getInt(offset(position)) == SKIP) {
+			return position + remaining;
+		}
+		return position;
+	}
+
+	/**
+	 * Returns the number of bytes available to store the records.
+	 * @return the number of bytes available to store the records.
+	 */
+	public long capacity() {
+		return capacity;
+	}
+
+	@Override
+	public boolean offer(E value) {
+		Objects.requireNonNull(value);
+		var bytes = codec.encode(value);
+		var recordSize = Integer.BYTES + bytes.length;
+		if(recordSize > segmentSize) {
+			throw new IllegalArgumentException("record too big " + bytes.length);
+		}
+		var position = tail;
+		var remaining = segmentSize - offset(position);
+		var skip = remaining < recordSize ? remaining : 0;
+		if(position + skip + recordSize - head > capacity) {
+			return false;
+		}
+		if(skip != 0) {
+			if(remaining >= Integer.BYTES) {
+				segment(position).putInt(offset(position), SKIP);
+			}
+			position += skip;
+		}
+		var segment = segment(position);
+		var offset = offset(position);
+		segment.putInt(offset, bytes.length);
+		segment.put(offset + Integer.BYTES, bytes, 0, bytes.length);
+		// the record is written before the tail is published
+		tail = position + recordSize;
+		header.putLong(TAIL_OFFSET, tail);
+		size++;
+		modified();
+		return true;
+	}
+
+	private byte[] read(long position) {
+		var segment = segment(position);
+		var offset = offset(position);
+		var bytes = new byte[segment.getInt(offset)];
+		segment.get(offset + Integer.BYTES, bytes, 0, bytes.length);
+		return bytes;
+	}
+
+	@Override
+	public E poll() {
+		if(size == 0) {
+			return null;
+		}
+		var position = nextRecord(head);
+		var bytes = read(position);
+		head = position + Integer.BYTES + bytes.length;
+		header.putLong(HEAD_OFFSET, head);
+		size--;
+		modified();
+		return codec.decode(bytes);
+	}
+
+	@Override
+	public E peek() {
+		if(size == 0) {
+			return null;
+		}
+		return codec.decode(read(nextRecord(head)));
+	}
+
+	/**
+	 * Returns the number of elements, or {@code Integer.MAX_VALUE} if there are more.
+	 * @see #longSize()
+	 */
+	@Override
+	public int size() {
+		return (int) Math.min(size, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns the number of elements, a file of small records can contain
+	 * more than {@code Integer.MAX_VALUE} elements.
+	 * @return the number of elements.
+	 */
+	public long longSize() {
+		return size;
+	}
+
+	@Override
+	public void clear() {
+		head = tail;
+		header.putLong(HEAD_OFFSET, head);
+		size = 0;
+		modified();
+	}
+
+	private void modified() {
+		modCount++;
+		if(++unforcedCount >= forceInterval) {
+			force();
+		}
+	}
+
+	/**
+	 * Writes the content of the queue to the storage device.
+	 * @throws UncheckedIOException if an I/O error occurs.
+	 */
+	public void force() {
+		for(var segment: segments) {
+			segment.force();
+		}
+		header.force();
+		unforcedCount = 0;
+	}
+
+	/**
+	 * Writes the pending modifications and closes the file.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		if(!channel.isOpen()) {
+			return;
+		}
+		try {
+			force();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Returns an iterator from the head to the tail that decodes the elements lazily,
+	 * it does not support {@code remove}.
+	 *
+	 * @throws ConcurrentModificationException if the queue is modified during the iteration.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private long position = head;
+			private long remaining = size;
+			private final int expectedModCount = modCount;
+
+			@Override
+			public boolean hasNext() {
+				return remaining > 0;
+			}
+
+			@Override
+			public E next() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				if(modCount != expectedModCount) {
+					throw new ConcurrentModificationException();
+				}
+				position = nextRecord(position);
+				var bytes = read(position);
+				position += Integer.BYTES + bytes.length;
+				remaining--;
+				return codec.decode(bytes);
+			}
+		};
+	}
+}
@@ -0,0 +1,85 @@
+package fr.uge.fifo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// run with -prof gc, gc.alloc.rate.norm should be ~0 B/op for the primitive queues
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PrimitiveFifoBenchmark {
+	private static final int COUNT = 1_024;
+
+	// values outside of the Long/Integer caches, like timestamps
+	private long timestamp = System.nanoTime();
+
+	private final Fifo<Long> boxedLongs = new Fifo<>(COUNT);
+	private final LongFifo longs = new LongFifo(COUNT);
+	private final Fifo<Integer> boxedInts = new Fifo<>(COUNT);
+	private final IntFifo ints = new IntFifo(COUNT);
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public long fifo_of_long() {
+		var sum = 0L;
+		for(var i = 0; i < COUNT; i++) {
+			boxedLongs.offer(timestamp++);
+		}
+		for(var i = 0; i < COUNT; i++) {
+			sum += boxedLongs.poll();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public long long_fifo() {
+		var sum = 0L;
+		for(var i = 0; i < COUNT; i++) {
+			longs.offerLong(timestamp++);
+		}
+		for(var i = 0; i < COUNT; i++) {
+			sum += longs.pollLong();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int fifo_of_integer() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			boxedInts.offer(1_000 + i);
+		}
+		for(var i = 0; i < COUNT; i++) {
+			sum += boxedInts.poll();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int int_fifo() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			ints.offerInt(1_000 + i);
+		}
+		for(var i = 0; i < COUNT; i++) {
+			sum += ints.pollInt();
+		}
+		return sum;
+	}
+}
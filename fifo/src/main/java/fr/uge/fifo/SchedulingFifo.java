@@ -0,0 +1,272 @@
+package fr.uge.fifo;
+
+import java.util.AbstractQueue;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A queue with a small number of priority classes, the elements of a class are kept in FIFO order.
+ * The class 0 is the most urgent one. There is one {@link Fifo} per class and a bit set
+ * of the non empty classes, so {@code offer} and {@code poll} are O(1).
+ * An element can have a deadline, if the deadline is passed when the element reaches the head
+ * of the queue, the element is dropped instead of being returned.
+ * This class is not thread safe.
+ *
+ * @param <E> type of the elements.
+ */
+public final class SchedulingFifo<E> extends AbstractQueue<E> {
+	/**
+	 * Latency statistics of a priority class.
+	 *
+	 * @param count the number of elements returned by {@code poll}.
+	 * @param totalNanos the sum of the time spent in the queue by those elements.
+	 * @param maxNanos the maximum time spent in the queue by an element.
+	 * @param dropCount the number of elements dropped because their deadline was passed.
+	 */
+	public record Latency(long count, long totalNanos, long maxNanos, long dropCount) {
+		/**
+		 * Returns the average time spent in the queue.
+		 * @return the average time spent in the queue or 0 if no element has been polled.
+		 */
+		public double averageNanos() {
+			return count == 0 ? 0 : (double) totalNanos / count;
+		}
+	}
+
+	private static final long NO_DEADLINE = Long.MAX_VALUE;
+
+	private final Fifo<E>[] elements;
+	// enqueue times and deadlines of the elements, unboxed
+	private final LongFifo[] timestamps;
+	private final LongFifo[] deadlines;
+	private final long[] counts;
+	private final long[] totalNanos;
+	private final long[] maxNanos;
+	private final long[] dropCounts;
+	private final LongSupplier clock;
+	// bit i is set if the class i is not empty
+	private long nonEmptyClasses;
+	private int size;
+
+	/**
+	 * Creates a queue with several priority classes.
+	 *
+	 * @param priorityCount the number of priority classes, between 1 and 64.
+	 * @param clock a clock in nanoseconds, used for the deadlines and the latencies.
+	 * @throws IllegalArgumentException if priorityCount is not between 1 and 64.
+	 * @throws NullPointerException if clock is null.
+	 */
+	@SuppressWarnings("unchecked")
+	public SchedulingFifo(int priorityCount, LongSupplier clock) {
+		if(priorityCount <= 0 || priorityCount > Long.SIZE) {
+			throw new IllegalArgumentException();
+		}
+		this.clock = Objects.requireNonNull(clock);
+		elements = (Fifo<E>[]) new Fifo<?>[priorityCount];
+		timestamps = new LongFifo[priorityCount];
+		deadlines = new LongFifo[priorityCount];
+		for(var i = 0; i < priorityCount; i++) {
+			elements[i] = new Fifo<>();
+			timestamps[i] = new LongFifo();
+			deadlines[i] = new LongFifo();
+		}
+		counts = new long[priorityCount];
+		totalNanos = new long[priorityCount];
+		maxNanos = new long[priorityCount];
+		dropCounts = new long[priorityCount];
+	}
+
+	/**
+	 * Creates a queue with several priority classes using {@link System#nanoTime()} as clock.
+	 *
+	 * @param priorityCount the number of priority classes, between 1 and 64.
+	 * @throws IllegalArgumentException if priorityCount is not between 1 and 64.
+	 */
+	public SchedulingFifo(int priorityCount) {
+		this(priorityCount, System::nanoTime);
+	}
+
+	/**
+	 * Returns the number of priority classes.
+	 * @return the number of priority classes.
+	 */
+	public int priorityCount() {
+		return elements.length;
+	}
+
+	/**
+	 * Adds an element in the least urgent class without deadline.
+	 */
+	@Override
+	public boolean offer(E value) {
+		return offer(value, elements.length - 1);
+	}
+
+	/**
+	 * Adds an element without deadline.
+	 *
+	 * @param value the element.
+	 * @param priority the priority class, 0 is the most urgent.
+	 * @return true
+	 * @throws NullPointerException if value is null.
+	 * @throws IndexOutOfBoundsException if priority is not a valid class.
+	 */
+	public boolean offer(E value, int priority) {
+		Objects.requireNonNull(value);
+		Objects.checkIndex(priority, elements.length);
+		enqueue(value, priority, clock.getAsLong(), NO_DEADLINE);
+		return true;
+	}
+
+	/**
+	 * Adds an element that is dropped if it is not polled before the timeout.
+	 *
+	 * @param value the element.
+	 * @param priority the priority class, 0 is the most urgent.
+	 * @param timeout the time after which the element is dropped, a negative timeout is treated as 0.
+	 * @param unit the unit of the timeout.
+	 * @return true
+	 * @throws NullPointerException if value or unit is null.
+	 * @throws IndexOutOfBoundsException if priority is not a valid class.
+	 */
+	public boolean offer(E value, int priority, long timeout, TimeUnit unit) {
+		Objects.requireNonNull(value);
+		Objects.checkIndex(priority, elements.length);
+		Objects.requireNonNull(unit);
+		var now = clock.getAsLong();
+		// a negative timeout is already expired, the deadline is never more than 2^63 nanos
+		// before now, so the comparison with the clock in dequeue does not wrap
+		var nanos = Math.max(0, unit.toNanos(timeout));
+		// saturating add, the clock origin is arbitrary so now can be negative
+		var deadline = now + nanos;
+		if(deadline < now) {
+			deadline = NO_DEADLINE;
+		}
+		enqueue(value, priority, now, deadline);
+		return true;
+	}
+
+	private void enqueue(E value, int priority, long now, long deadline) {
+		elements[priority].offer(value);
+		timestamps[priority].offerLong(now);
+		deadlines[priority].offerLong(deadline);
+		nonEmptyClasses |= 1L << priority;
+		size++;
+	}
+
+	// remove the head of a class, it is dropped if its deadline is passed
+	private E dequeue(int priority, long now) {
+		var element = elements[priority].poll();
+		var timestamp = timestamps[priority].pollLong();
+		var deadline = deadlines[priority].pollLong();
+		if(elements[priority].isEmpty()) {
+			nonEmptyClasses &= ~(1L << priority);
+		}
+		size--;
+		if(now - deadline > 0 && deadline != NO_DEADLINE) {
+			dropCounts[priority]++;
+			return null;
+		}
+		var latency = now - timestamp;
+		counts[priority]++;
+		totalNanos[priority] += latency;
+		maxNanos[priority] = Math.max(maxNanos[priority], latency);
+		return element;
+	}
+
+	@Override
+	public E poll() {
+		var now = clock.getAsLong();
+		while(nonEmptyClasses != 0) {
+			var element = dequeue(Long.numberOfTrailingZeros(nonEmptyClasses), now);
+			if(element != null) {
+				return element;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the most urgent element, the elements in front of it whose deadline
+	 * is passed are dropped.
+	 */
+	@Override
+	public E peek() {
+		var now = clock.getAsLong();
+		while(nonEmptyClasses != 0) {
+			var priority = Long.numberOfTrailingZeros(nonEmptyClasses);
+			var deadline = deadlines[priority].peekLong();
+			if(now - deadline <= 0 || deadline == NO_DEADLINE) {
+				return elements[priority].peek();
+			}
+			dequeue(priority, now);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the number of elements, including the elements whose deadline is passed
+	 * but that have not been dropped yet.
+	 */
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the latency statistics of a priority class.
+	 *
+	 * @param priority the priority class.
+	 * @return the latency statistics of the class.
+	 * @throws IndexOutOfBoundsException if priority is not a valid class.
+	 */
+	public Latency latency(int priority) {
+		Objects.checkIndex(priority, elements.length);
+		return new Latency(counts[priority], totalNanos[priority], maxNanos[priority], dropCounts[priority]);
+	}
+
+	@Override
+	public void clear() {
+		for(var i = 0; i < elements.length; i++) {
+			elements[i].clear();
+			timestamps[i].clear();
+			deadlines[i].clear();
+		}
+		nonEmptyClasses = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns an iterator on the elements from the most urgent class to the least urgent,
+	 * it does not support {@code remove}.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		return new Iterator<E>() {
+			private int priority;
+			private Iterator<E> iterator = elements[0].iterator();
+
+			@Override
+			public boolean hasNext() {
+				while(!iterator.hasNext()) {
+					if(priority == elements.length - 1) {
+						return false;
+					}
+					iterator = elements[++priority].iterator();
+				}
+				return true;
+			}
+
+			@Override
+			public E next() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return iterator.next();
+			}
+		};
+	}
+}
@@ -0,0 +1,188 @@
+package fr.uge.fifo;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * A bounded circular queue for exactly one producer thread and one consumer thread.
+ * {@code offer} must only be called by the producer,
+ * {@code poll}, {@code peek} and {@code drainTo} must only be called by the consumer.
+ *
+ * @param <E> type of the elements.
+ */
+public final class SpscFifo<E> extends AbstractQueue<E> {
+	private static final VarHandle INDEXES = MethodHandles.arrayElementVarHandle(long[].class);
+
+	// head, tail and their cached copies live in one array so that the layout is known:
+	// the consumer line (head, cached tail) and the producer line (tail, cached head)
+	// are separated by 128 bytes, which avoids false sharing even with adjacent line prefetch
+	private static final int PAD = 16;
+	private static final int HEAD = PAD;
+	private static final int CACHED_TAIL = HEAD + 1;
+	private static final int TAIL = 2 * PAD;
+	private static final int CACHED_HEAD = TAIL + 1;
+
+	private final E[] array;
+	private final int mask;
+	private final long[] indexes = new long[3 * PAD];
+
+	/**
+	 * Creates a queue able to store at least {@code maxElement} elements,
+	 * the capacity is rounded up to the next power of two.
+	 *
+	 * @param maxElement the minimal capacity of the queue.
+	 * @throws IllegalArgumentException if maxElement is not positive or too big.
+	 */
+	@SuppressWarnings("unchecked")
+	public SpscFifo(int maxElement) {
+		if(maxElement <= 0 || maxElement > 1 << 30) {
+			throw new IllegalArgumentException();
+		}
+		var capacity = Integer.highestOneBit(maxElement);
+		if(capacity != maxElement) {
+			capacity <<= 1;
+		}
+		array = (E[]) new Object[capacity];
+		mask = capacity - 1;
+	}
+
+	/**
+	 * Returns the number of slots of this queue.
+	 * @return the number of slots of this queue.
+	 */
+	public int capacity() {
+		return array.length;
+	}
+
+	@Override
+	public boolean offer(E value) {
+		Objects.requireNonNull(value);
+		var tail = indexes[TAIL];
+		if(tail - indexes[CACHED_HEAD] == array.length) {
+			// only read the head written by the consumer when the cached one says full
+			var head = (long) INDEXES.getAcquire(indexes, HEAD);
+			indexes[CACHED_HEAD] = head;
+			if(tail - head == array.length) {
+				return false;
+			}
+		}
+		array[(int) tail & mask] = value;
+		INDEXES.setRelease(indexes, TAIL, tail + 1);
+		return true;
+	}
+
+	@Override
+	public E poll() {
+		var head = indexes[HEAD];
+		if(!available(head)) {
+			return null;
+		}
+		var index = (int) head & mask;
+		var element = array[index];
+		array[index] = null;
+		INDEXES.setRelease(indexes, HEAD, head + 1);
+		return element;
+	}
+
+	private boolean available(long head) {
+		if(head != indexes[CACHED_TAIL]) {
+			return true;
+		}
+		var tail = (long) INDEXES.getAcquire(indexes, TAIL);
+		indexes[CACHED_TAIL] = tail;
+		return head != tail;
+	}
+
+	@Override
+	public E peek() {
+		var head = indexes[HEAD];
+		if(!available(head)) {
+			return null;
+		}
+		return array[(int) head & mask];
+	}
+
+	/**
+	 * Removes at most {@code max} elements and sends them to the consumer,
+	 * the consumer index is only published once for the whole batch.
+	 * If the consumer throws an exception, the elements sent to it, including the one
+	 * that caused the exception, are removed and the others stay in the queue.
+	 *
+	 * @param consumer the function called with each element.
+	 * @param max the maximum number of elements to remove.
+	 * @return the number of elements removed.
+	 * @throws NullPointerException if consumer is null.
+	 * @throws IllegalArgumentException if max is negative.
+	 */
+	public int drainTo(Consumer<? super E> consumer, int max) {
+		Objects.requireNonNull(consumer);
+		if(max < 0) {
+			throw new IllegalArgumentException();
+		}
+		var head = indexes[HEAD];
+		var tail = (long) INDEXES.getAcquire(indexes, TAIL);
+		indexes[CACHED_TAIL] = tail;
+		var count = (int) Math.min(tail - head, max);
+		var drained = 0;
+		try {
+			while(drained < count) {
+				var index = (int) (head + drained) & mask;
+				var element = array[index];
+				array[index] = null;
+				drained++;
+				consumer.accept(element);
+			}
+		} finally {
+			// if the consumer throws, the elements already handed to it are removed
+			INDEXES.setRelease(indexes, HEAD, head + drained);
+		}
+		return count;
+	}
+
+	@Override
+	public int size() {
+		for(;;) {
+			var head = (long) INDEXES.getAcquire(indexes, HEAD);
+			var tail = (long) INDEXES.getAcquire(indexes, TAIL);
+			if(head == (long) INDEXES.getAcquire(indexes, HEAD)) {
+				return (int) (tail - head);
+			}
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+
+	/**
+	 * Returns an iterator on a snapshot of the elements, it must only be called by the consumer
+	 * and does not support {@code remove}.
+	 */
+	@Override
+	public Iterator<E> iterator() {
+		var head = indexes[HEAD];
+		var tail = (long) INDEXES.getAcquire(indexes, TAIL);
+		var snapshot = new ArrayList<E>((int) (tail - head));
+		for(var position = head; position < tail; position++) {
+			snapshot.add(array[(int) position & mask]);
+		}
+		var iterator = snapshot.iterator();
+		return new Iterator<E>() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public E next() {
+				return iterator.next();
+			}
+		};
+	}
+}
@@ -0,0 +1,71 @@
+package fr.uge.fifo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Group)
+public class SpscFifoBenchmark {
+	private static final Integer VALUE = 42;
+
+	private final SpscFifo<Integer> spsc = new SpscFifo<>(1_024);
+	private final ConcurrentFifo<Integer> mpmc = new ConcurrentFifo<>(1_024);
+
+	@Benchmark
+	@Group("spsc")
+	@GroupThreads(1)
+	public boolean spsc_offer() {
+		return spsc.offer(VALUE);
+	}
+
+	@Benchmark
+	@Group("spsc")
+	@GroupThreads(1)
+	public Integer spsc_poll() {
+		return spsc.poll();
+	}
+
+	@Benchmark
+	@Group("spsc_drain")
+	@GroupThreads(1)
+	public boolean spsc_drain_offer() {
+		return spsc.offer(VALUE);
+	}
+
+	@Benchmark
+	@Group("spsc_drain")
+	@GroupThreads(1)
+	public int spsc_drain_drainTo(Blackhole blackhole) {
+		return spsc.drainTo(blackhole::consume, 64);
+	}
+
+	@Benchmark
+	@Group("mpmc")
+	@GroupThreads(1)
+	public boolean mpmc_offer() {
+		return mpmc.offer(VALUE);
+	}
+
+	@Benchmark
+	@Group("mpmc")
+	@GroupThreads(1)
+	public Integer mpmc_poll() {
+		return mpmc.poll();
+	}
+}
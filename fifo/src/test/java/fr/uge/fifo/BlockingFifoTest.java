@@ -0,0 +1,127 @@
+package fr.uge.fifo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import fr.uge.fifo.BlockingFifo.Overflow;
+
+@SuppressWarnings("static-method")
+public class BlockingFifoTest {
+  @Test
+  public void shouldGetAnErrorWhenCapacityIsNonPositive() {
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> new BlockingFifo<>(0)),
+        () -> assertThrows(IllegalArgumentException.class, () -> new BlockingFifo<>(-3)),
+        () -> assertThrows(NullPointerException.class, () -> new BlockingFifo<>(3, null))
+    );
+  }
+
+  @Test
+  public void shouldNotGrowOverTheCapacity() {
+    var fifo = new BlockingFifo<Integer>(2);
+    assertTrue(fifo.offer(1));
+    assertTrue(fifo.offer(2));
+    assertFalse(fifo.offer(3));
+    assertEquals(2, fifo.size());
+    assertEquals(0, fifo.remainingCapacity());
+    assertEquals(List.of(1, 2), new ArrayList<>(fifo));
+  }
+
+  @Test
+  public void shouldDropTheOldestElement() {
+    var fifo = new BlockingFifo<Integer>(3, Overflow.DROP_OLDEST);
+    for(var i = 0; i < 10; i++) {
+      assertTrue(fifo.offer(i));
+    }
+    assertEquals(List.of(7, 8, 9), new ArrayList<>(fifo));
+    assertEquals(7, fifo.dropCount());
+  }
+
+  @Test
+  public void shouldDropTheNewestElement() throws InterruptedException {
+    var fifo = new BlockingFifo<Integer>(3, Overflow.DROP_NEWEST);
+    for(var i = 0; i < 5; i++) {
+      fifo.put(i);
+    }
+    assertEquals(List.of(0, 1, 2), new ArrayList<>(fifo));
+    assertEquals(2, fifo.dropCount());
+  }
+
+  @Test
+  public void offerShouldReturnFalseWhenTheNewestElementIsDropped() throws InterruptedException {
+    var fifo = new BlockingFifo<Integer>(2, Overflow.DROP_NEWEST);
+    assertTrue(fifo.offer(0));
+    assertTrue(fifo.offer(1));
+    assertFalse(fifo.offer(2));
+    assertFalse(fifo.offer(3, 10, TimeUnit.MILLISECONDS));
+    assertEquals(List.of(0, 1), new ArrayList<>(fifo));
+    assertEquals(2, fifo.dropCount());
+  }
+
+  @Test
+  public void shouldTimeoutWhenFullOrEmpty() throws InterruptedException {
+    var fifo = new BlockingFifo<String>(1);
+    assertNull(fifo.poll(10, TimeUnit.MILLISECONDS));
+    assertTrue(fifo.offer("foo", 10, TimeUnit.MILLISECONDS));
+    assertFalse(fifo.offer("bar", 10, TimeUnit.MILLISECONDS));
+    assertEquals("foo", fifo.poll(10, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  @Timeout(5)
+  public void shouldBlockProducersUntilConsumersTakeElements() throws InterruptedException {
+    var fifo = new BlockingFifo<Integer>(4);
+    var producer = Thread.ofPlatform().start(() -> {
+      try {
+        for(var i = 0; i < 1_000; i++) {
+          fifo.put(i);
+        }
+      } catch (InterruptedException e) {
+        throw new AssertionError(e);
+      }
+    });
+    for(var i = 0; i < 1_000; i++) {
+      assertEquals(i, fifo.take());
+      assertTrue(fifo.size() <= 4);
+    }
+    producer.join();
+    assertTrue(fifo.isEmpty());
+  }
+
+  @Test
+  public void shouldDrainTo() {
+    var fifo = new BlockingFifo<Integer>(8);
+    for(var i = 0; i < 5; i++) {
+      fifo.add(i);
+    }
+    var list = new ArrayList<Integer>();
+    assertEquals(3, fifo.drainTo(list, 3));
+    assertEquals(List.of(0, 1, 2), list);
+    assertEquals(2, fifo.drainTo(list));
+    assertEquals(List.of(0, 1, 2, 3, 4), list);
+    assertTrue(fifo.isEmpty());
+  }
+
+  @Test
+  public void shouldDetectAModificationDuringIteration() {
+    var fifo = new BlockingFifo<Integer>(8);
+    fifo.add(1);
+    fifo.add(2);
+    var iterator = fifo.iterator();
+    iterator.next();
+    fifo.add(3);
+    assertThrows(ConcurrentModificationException.class, iterator::next);
+  }
+}
@@ -0,0 +1,110 @@
+package fr.uge.fifo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@SuppressWarnings("static-method")
+public class ConcurrentFifoTest {
+  @Test
+  public void shouldGetAnErrorWhenCapacityIsNonPositive() {
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> new ConcurrentFifo<>(0)),
+        () -> assertThrows(IllegalArgumentException.class, () -> new ConcurrentFifo<>(-1))
+    );
+  }
+
+  @Test
+  public void shouldRoundCapacityToAPowerOfTwo() {
+    assertEquals(8, new ConcurrentFifo<>(5).capacity());
+    assertEquals(8, new ConcurrentFifo<>(8).capacity());
+    assertEquals(1, new ConcurrentFifo<>(1).capacity());
+  }
+
+  @Test
+  public void shouldGetAnErrorWhenOfferingNull() {
+    var fifo = new ConcurrentFifo<>(4);
+    assertThrows(NullPointerException.class, () -> fifo.offer(null));
+  }
+
+  @Test
+  public void shouldBeAQueue() {
+    Queue<String> fifo = new ConcurrentFifo<>(4);
+    fifo.add("foo");
+    fifo.add("bar");
+    assertEquals(2, fifo.size());
+    assertEquals("foo", fifo.peek());
+    assertEquals("foo", fifo.poll());
+    assertEquals("bar", fifo.poll());
+    assertNull(fifo.poll());
+    assertNull(fifo.peek());
+    assertTrue(fifo.isEmpty());
+  }
+
+  @Test
+  public void shouldRefuseElementsWhenFull() {
+    var fifo = new ConcurrentFifo<Integer>(2);
+    assertTrue(fifo.offer(1));
+    assertTrue(fifo.offer(2));
+    assertFalse(fifo.offer(3));
+    assertEquals(1, fifo.poll());
+    assertTrue(fifo.offer(3));
+    assertEquals(List.of(2, 3), new ArrayList<>(fifo));
+  }
+
+  @Test
+  public void shouldWrapAround() {
+    var fifo = new ConcurrentFifo<Integer>(4);
+    for(var i = 0; i < 1_000; i++) {
+      fifo.offer(i);
+      fifo.offer(-i);
+      assertEquals(i, fifo.poll());
+      assertEquals(-i, fifo.poll());
+    }
+    assertEquals(0, fifo.size());
+  }
+
+  @Test
+  @Timeout(10)
+  public void shouldNotLoseOrDuplicateElementsWithSeveralProducersAndConsumers() throws InterruptedException {
+    var fifo = new ConcurrentFifo<Integer>(64);
+    var count = 10_000;
+    var sum = new AtomicLong();
+    var producers = IntStream.range(0, 4).mapToObj(p -> Thread.ofPlatform().start(() -> {
+      for(var i = 0; i < count; i++) {
+        while(!fifo.offer(i)) {
+          Thread.yield();
+        }
+      }
+    })).toList();
+    var consumers = IntStream.range(0, 4).mapToObj(c -> Thread.ofPlatform().start(() -> {
+      for(var i = 0; i < count; i++) {
+        Integer value;
+        while((value = fifo.poll()) == null) {
+          Thread.yield();
+        }
+        sum.addAndGet(value);
+      }
+    })).toList();
+    for(var thread: producers) {
+      thread.join();
+    }
+    for(var thread: consumers) {
+      thread.join();
+    }
+    assertEquals(4L * count * (count - 1) / 2, sum.get());
+    assertTrue(fifo.isEmpty());
+  }
+}
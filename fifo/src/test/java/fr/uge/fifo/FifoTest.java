@@ -1,5 +1,6 @@
 package fr.uge.fifo;
 
+import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -13,9 +14,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Queue;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -660,4 +666,245 @@ public class FifoTest {
 //      assertEquals(fifo.size(), counter);
 //    }
   }
+
+
+  @Nested
+  public class Shrinking {
+    @Test
+    public void shouldShrinkAfterABurst() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 1_000; i++) {
+        fifo.offer(i);
+      }
+      assertEquals(1_024, fifo.capacity());
+      for(var i = 0; i < 990; i++) {
+        assertEquals(i, fifo.poll());
+      }
+      assertTrue(fifo.capacity() <= 64);
+      assertTrue(fifo.shrinkCount() > 0);
+      for(var i = 990; i < 1_000; i++) {
+        assertEquals(i, fifo.poll());
+      }
+      assertEquals(16, fifo.capacity());
+    }
+
+    @Test
+    public void shouldNotShrinkAndGrowWhenTheSizeOscillates() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 64; i++) {
+        fifo.offer(i);
+      }
+      var growCount = fifo.growCount();
+      var shrinkCount = fifo.shrinkCount();
+      for(var i = 0; i < 1_000; i++) {
+        fifo.poll();
+        fifo.offer(i);
+      }
+      assertEquals(growCount, fifo.growCount());
+      assertEquals(shrinkCount, fifo.shrinkCount());
+    }
+
+    @Test
+    public void shouldTrimToSizeAndKeepTheOrder() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 10; i++) {
+        fifo.offer(i);
+        fifo.poll();
+      }
+      for(var i = 0; i < 10; i++) {
+        fifo.offer(i);
+      }
+      fifo.trimToSize();
+      assertEquals(10, fifo.capacity());
+      fifo.offer(10);
+      for(var i = 0; i <= 10; i++) {
+        assertEquals(i, fifo.poll());
+      }
+    }
+
+    @Test
+    public void shouldTrimToSizeWhenEmpty() {
+      var fifo = new Fifo<String>();
+      fifo.trimToSize();
+      assertEquals(1, fifo.capacity());
+      fifo.offer("foo");
+      fifo.offer("bar");
+      assertEquals("[foo, bar]", fifo.toString());
+    }
+
+    @Test
+    public void shouldGiveMemoryBackWhenCleared() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 100; i++) {
+        fifo.offer(i);
+      }
+      fifo.clear();
+      assertEquals(16, fifo.capacity());
+      assertNull(fifo.poll());
+      assertEquals(0, fifo.size());
+    }
+  }
+
+
+  @Nested
+  public class BulkOperations {
+    @Test
+    public void shouldAddAllAcrossTheWrapPoint() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 10; i++) {
+        fifo.offer(-1);
+        fifo.poll();
+      }
+      fifo.addAll(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9));
+      assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), new ArrayList<>(fifo));
+      assertEquals(10, fifo.size());
+    }
+
+    @Test
+    public void shouldResizeOnceWhenAddingALotOfElements() {
+      var fifo = new Fifo<Integer>();
+      var list = IntStream.range(0, 10_000).boxed().toList();
+      assertTrue(fifo.addAll(list));
+      assertEquals(1, fifo.growCount());
+      assertEquals(list, new ArrayList<>(fifo));
+      assertFalse(fifo.addAll(List.of()));
+    }
+
+    @Test
+    public void shouldNotAddNullElements() {
+      var fifo = new Fifo<String>();
+      fifo.offer("foo");
+      assertAll(
+          () -> assertThrows(NullPointerException.class, () -> fifo.addAll(Arrays.asList("bar", null))),
+          () -> assertThrows(NullPointerException.class, () -> fifo.offerAll(new String[] { null })),
+          () -> assertThrows(NullPointerException.class, () -> fifo.offerAll(null)),
+          () -> assertThrows(IllegalArgumentException.class, () -> fifo.addAll(fifo))
+      );
+      assertEquals(List.of("foo"), new ArrayList<>(fifo));
+    }
+
+    @Test
+    public void shouldOfferAll() {
+      var fifo = new Fifo<String>(2);
+      fifo.offerAll(new String[] { "foo", "bar" });
+      fifo.offerAll(new String[] { "baz" });
+      assertEquals("[foo, bar, baz]", fifo.toString());
+    }
+
+    @Test
+    public void shouldDrainTo() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 12; i++) {
+        fifo.offer(-1);
+        fifo.poll();
+      }
+      for(var i = 0; i < 10; i++) {
+        fifo.offer(i);
+      }
+      var list = new ArrayList<Integer>();
+      assertEquals(7, fifo.drainTo(list, 7));
+      assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), list);
+      assertEquals(3, fifo.drainTo(list, 100));
+      assertEquals(0, fifo.drainTo(list, 100));
+      assertEquals(IntStream.range(0, 10).boxed().toList(), list);
+      assertEquals(0, fifo.size());
+      assertThrows(IllegalArgumentException.class, () -> fifo.drainTo(list, -1));
+    }
+
+    @Test
+    public void shouldCopyToArrayAcrossTheWrapPoint() {
+      var fifo = new Fifo<String>(4);
+      for(var i = 0; i < 14; i++) {
+        fifo.offer("x");
+        fifo.poll();
+      }
+      fifo.offer("foo");
+      fifo.offer("bar");
+      fifo.offer("baz");
+      assertArrayEquals(new Object[] { "foo", "bar", "baz" }, fifo.toArray());
+      assertArrayEquals(new String[] { "foo", "bar", "baz" }, fifo.toArray(new String[0]));
+      assertArrayEquals(new String[] { "foo", "bar", "baz", null, "" }, fifo.toArray(new String[] { "", "", "", "", "" }));
+      assertTrue(fifo.contains("baz"));
+      assertFalse(fifo.contains("x"));
+      assertFalse(fifo.contains(null));
+    }
+  }
+
+
+  @Nested
+  public class Streams {
+    @Test
+    public void shouldBeSizedAndOrdered() {
+      var fifo = new Fifo<Integer>();
+      fifo.offer(1);
+      var spliterator = fifo.spliterator();
+      assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+      assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+      assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+      assertEquals(1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void shouldSplitAtTheWrapPoint() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 12; i++) {
+        fifo.offer(-1);
+        fifo.poll();
+      }
+      for(var i = 0; i < 10; i++) {
+        fifo.offer(i);
+      }
+      var suffix = fifo.spliterator();
+      var prefix = suffix.trySplit();
+      assertEquals(4, prefix.estimateSize());
+      assertEquals(6, suffix.estimateSize());
+      var list = new ArrayList<Integer>();
+      prefix.forEachRemaining(list::add);
+      suffix.forEachRemaining(list::add);
+      assertEquals(IntStream.range(0, 10).boxed().toList(), list);
+    }
+
+    @Test
+    public void shouldStreamInParallel() {
+      var fifo = new Fifo<Integer>();
+      for(var i = 0; i < 1_000; i++) {
+        fifo.offer(-1);
+        fifo.poll();
+      }
+      for(var i = 0; i < 100_000; i++) {
+        fifo.offer(i);
+      }
+      assertEquals(4_999_950_000L, fifo.stream().parallel().mapToLong(i -> i).sum());
+      assertEquals(IntStream.range(0, 100_000).boxed().toList(), fifo.stream().parallel().toList());
+    }
+
+    @Test
+    public void shouldNotSplitASingleElement() {
+      var fifo = new Fifo<String>();
+      fifo.offer("foo");
+      var spliterator = fifo.spliterator();
+      assertNull(spliterator.trySplit());
+      assertTrue(spliterator.tryAdvance(s -> assertEquals("foo", s)));
+      assertFalse(spliterator.tryAdvance(s -> fail()));
+    }
+
+    @Test
+    public void shouldFailFastWhenModifiedDuringIteration() {
+      var fifo = new Fifo<Integer>();
+      fifo.offer(1);
+      fifo.offer(2);
+      var iterator = fifo.iterator();
+      iterator.next();
+      fifo.offer(3);
+      assertThrows(ConcurrentModificationException.class, iterator::next);
+    }
+
+    @Test
+    public void shouldFailFastWhenModifiedDuringAStream() {
+      var fifo = new Fifo<Integer>();
+      fifo.offer(1);
+      fifo.offer(2);
+      assertThrows(ConcurrentModificationException.class, () -> fifo.stream().forEach(fifo::offer));
+    }
+  }
 }
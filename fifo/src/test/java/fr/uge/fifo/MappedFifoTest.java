@@ -0,0 +1,120 @@
+package fr.uge.fifo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import fr.uge.fifo.MappedFifo.Codec;
+
+@SuppressWarnings("static-method")
+public class MappedFifoTest {
+  private static final Codec<Integer> INT_CODEC = new Codec<>() {
+    @Override
+    public byte[] encode(Integer value) {
+      return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+    }
+
+    @Override
+    public Integer decode(byte[] bytes) {
+      return ByteBuffer.wrap(bytes).getInt();
+    }
+  };
+
+  @Test
+  public void shouldBeAQueue(@TempDir Path directory) throws IOException {
+    try(var fifo = MappedFifo.open(directory.resolve("fifo"), 1_024, Codec.utf8())) {
+      assertTrue(fifo.isEmpty());
+      fifo.offer("foo");
+      fifo.offer("été");
+      assertEquals(2, fifo.size());
+      assertEquals(2, fifo.longSize());
+      assertEquals("foo", fifo.peek());
+      assertEquals(List.of("foo", "été"), new ArrayList<>(fifo));
+      assertEquals("foo", fifo.poll());
+      assertEquals("été", fifo.poll());
+      assertNull(fifo.poll());
+      assertNull(fifo.peek());
+    }
+  }
+
+  @Test
+  public void shouldPreconditions(@TempDir Path directory) throws IOException {
+    var path = directory.resolve("fifo");
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> MappedFifo.open(null, 1_024, Codec.utf8())),
+        () -> assertThrows(NullPointerException.class, () -> MappedFifo.open(path, 1_024, null)),
+        () -> assertThrows(IllegalArgumentException.class, () -> MappedFifo.open(path, 0, Codec.utf8())),
+        () -> assertThrows(IllegalArgumentException.class, () -> MappedFifo.open(path, 1_024, Codec.utf8(), 0))
+    );
+    try(var fifo = MappedFifo.open(path, 16, Codec.utf8())) {
+      assertThrows(NullPointerException.class, () -> fifo.offer(null));
+      assertThrows(IllegalArgumentException.class, () -> fifo.offer("a string that is too long"));
+    }
+  }
+
+  @Test
+  public void shouldRefuseElementsWhenFull(@TempDir Path directory) throws IOException {
+    try(var fifo = MappedFifo.open(directory.resolve("fifo"), 32, INT_CODEC)) {
+      for(var i = 0; i < 4; i++) {
+        assertTrue(fifo.offer(i));
+      }
+      assertFalse(fifo.offer(4));
+      assertEquals(0, fifo.poll());
+      assertTrue(fifo.offer(4));
+    }
+  }
+
+  @Test
+  public void shouldWrapAroundWithVariableLengthRecords(@TempDir Path directory) throws IOException {
+    try(var fifo = MappedFifo.open(directory.resolve("fifo"), 100, Codec.utf8(), 1_000)) {
+      for(var i = 0; i < 1_000; i++) {
+        var value = "x".repeat(i % 17);
+        assertTrue(fifo.offer(value));
+        assertTrue(fifo.offer(value + i));
+        assertEquals(value, fifo.poll());
+        assertEquals(value + i, fifo.poll());
+      }
+      assertTrue(fifo.isEmpty());
+    }
+  }
+
+  @Test
+  public void shouldRecoverTheElementsWhenReopened(@TempDir Path directory) throws IOException {
+    var path = directory.resolve("fifo");
+    try(var fifo = MappedFifo.open(path, 64, INT_CODEC)) {
+      for(var i = 0; i < 20; i++) {
+        fifo.offer(i);
+        fifo.poll();
+      }
+      for(var i = 0; i < 5; i++) {
+        fifo.offer(i);
+      }
+      fifo.poll();
+    }
+    try(var fifo = MappedFifo.open(path, 4_096, INT_CODEC)) {
+      assertEquals(64, fifo.capacity());
+      assertEquals(4, fifo.size());
+      assertEquals(List.of(1, 2, 3, 4), new ArrayList<>(fifo));
+    }
+  }
+
+  @Test
+  public void shouldNotOpenAnotherKindOfFile(@TempDir Path directory) throws IOException {
+    var path = directory.resolve("fifo");
+    Files.write(path, new byte[128]);
+    assertThrows(IOException.class, () -> MappedFifo.open(path, 64, INT_CODEC));
+  }
+}
@@ -0,0 +1,132 @@
+package fr.uge.fifo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public class PrimitiveFifoTest {
+  @Nested
+  public class LongFifoTest {
+    @Test
+    public void shouldGetAnErrorWhenCapacityIsNonPositive() {
+      assertAll(
+          () -> assertThrows(IllegalArgumentException.class, () -> new LongFifo(0)),
+          () -> assertThrows(IllegalArgumentException.class, () -> new LongFifo(-3))
+      );
+    }
+
+    @Test
+    public void shouldOfferAndPollInOrder() {
+      var fifo = new LongFifo(2);
+      fifo.offerLong(1L << 40);
+      fifo.offerLong(-7);
+      assertEquals(2, fifo.size());
+      assertEquals(1L << 40, fifo.peekLong());
+      assertEquals(1L << 40, fifo.pollLong());
+      assertEquals(-7, fifo.pollLong());
+      assertTrue(fifo.isEmpty());
+    }
+
+    @Test
+    public void shouldGetAnErrorWhenEmpty() {
+      var fifo = new LongFifo();
+      assertAll(
+          () -> assertThrows(NoSuchElementException.class, fifo::pollLong),
+          () -> assertThrows(NoSuchElementException.class, fifo::peekLong)
+      );
+    }
+
+    @Test
+    public void shouldResizeAndKeepTheOrderWhenWrapped() {
+      var fifo = new LongFifo(4);
+      fifo.offerLong(-1);
+      fifo.offerLong(-2);
+      fifo.pollLong();
+      fifo.pollLong();
+      for(var i = 0; i < 100; i++) {
+        fifo.offerLong(i);
+      }
+      for(var i = 0; i < 100; i++) {
+        assertEquals(i, fifo.pollLong());
+      }
+    }
+
+    @Test
+    public void shouldIterateAndStream() {
+      var fifo = new LongFifo(4);
+      fifo.offerLong(0);
+      fifo.pollLong();
+      for(var i = 1; i <= 10; i++) {
+        fifo.offerLong(i);
+      }
+      var iterator = fifo.iterator();
+      for(var i = 1; i <= 10; i++) {
+        assertEquals(i, iterator.nextLong());
+      }
+      assertFalse(iterator.hasNext());
+      assertEquals(55, fifo.stream().sum());
+      assertArrayEquals(new long[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 }, fifo.toArray());
+      assertEquals("[1, 2, 3, 4, 5, 6, 7, 8, 9, 10]", fifo.toString());
+    }
+
+    @Test
+    public void shouldDetectAModificationDuringIteration() {
+      var fifo = new LongFifo();
+      fifo.offerLong(1);
+      fifo.offerLong(2);
+      var iterator = fifo.iterator();
+      iterator.nextLong();
+      fifo.offerLong(3);
+      assertThrows(ConcurrentModificationException.class, iterator::nextLong);
+    }
+  }
+
+  @Nested
+  public class IntFifoTest {
+    @Test
+    public void shouldOfferAndPollInOrder() {
+      var fifo = new IntFifo(1);
+      for(var i = 0; i < 50; i++) {
+        fifo.offerInt(i);
+      }
+      assertEquals(1_225, fifo.stream().sum());
+      for(var i = 0; i < 50; i++) {
+        assertEquals(i, fifo.pollInt());
+      }
+      assertThrows(NoSuchElementException.class, fifo::pollInt);
+    }
+
+    @Test
+    public void shouldClear() {
+      var fifo = new IntFifo();
+      fifo.offerInt(3);
+      fifo.clear();
+      assertEquals(0, fifo.size());
+      assertArrayEquals(new int[0], fifo.toArray());
+    }
+  }
+
+  @Nested
+  public class DoubleFifoTest {
+    @Test
+    public void shouldOfferAndPollInOrder() {
+      var fifo = new DoubleFifo(3);
+      fifo.offerDouble(0.5);
+      fifo.offerDouble(1.5);
+      assertEquals(0.5, fifo.peekDouble());
+      assertEquals(2.0, fifo.stream().sum());
+      assertEquals(0.5, fifo.pollDouble());
+      assertEquals(1.5, fifo.iterator().nextDouble());
+    }
+  }
+}
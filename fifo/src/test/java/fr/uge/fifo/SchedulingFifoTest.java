@@ -0,0 +1,143 @@
+package fr.uge.fifo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+@SuppressWarnings("static-method")
+public class SchedulingFifoTest {
+  private static final class FakeClock {
+    private long now;
+
+    long now() {
+      return now;
+    }
+  }
+
+  @Test
+  public void shouldPreconditions() {
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> new SchedulingFifo<>(0)),
+        () -> assertThrows(IllegalArgumentException.class, () -> new SchedulingFifo<>(65)),
+        () -> assertThrows(NullPointerException.class, () -> new SchedulingFifo<>(2, null))
+    );
+    var fifo = new SchedulingFifo<String>(3);
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> fifo.offer(null, 0)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> fifo.offer("foo", 3)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> fifo.offer("foo", -1)),
+        () -> assertThrows(NullPointerException.class, () -> fifo.offer("foo", 0, 1, null)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> fifo.latency(3))
+    );
+  }
+
+  @Test
+  public void shouldPollTheMostUrgentFirstAndKeepTheOrderInAClass() {
+    var fifo = new SchedulingFifo<String>(3);
+    fifo.offer("low1");
+    fifo.offer("mid1", 1);
+    fifo.offer("high1", 0);
+    fifo.offer("mid2", 1);
+    fifo.offer("high2", 0);
+    assertEquals(5, fifo.size());
+    assertEquals(List.of("high1", "high2", "mid1", "mid2", "low1"), new ArrayList<>(fifo));
+    assertEquals("high1", fifo.peek());
+    assertEquals("high1", fifo.poll());
+    assertEquals("high2", fifo.poll());
+    fifo.offer("high3", 0);
+    assertEquals("high3", fifo.poll());
+    assertEquals("mid1", fifo.poll());
+    assertEquals("mid2", fifo.poll());
+    assertEquals("low1", fifo.poll());
+    assertNull(fifo.poll());
+    assertNull(fifo.peek());
+  }
+
+  @Test
+  public void shouldDropElementsWhoseDeadlineIsPassed() {
+    var clock = new FakeClock();
+    var fifo = new SchedulingFifo<String>(2, clock::now);
+    fifo.offer("late", 0, 10, TimeUnit.NANOSECONDS);
+    fifo.offer("on time", 0, 100, TimeUnit.NANOSECONDS);
+    fifo.offer("whenever", 1);
+    clock.now = 50;
+    assertEquals("on time", fifo.peek());
+    assertEquals("on time", fifo.poll());
+    clock.now = 1_000;
+    assertEquals("whenever", fifo.poll());
+    assertEquals(1, fifo.latency(0).dropCount());
+    assertEquals(0, fifo.latency(1).dropCount());
+  }
+
+  @Test
+  public void shouldTrackTheLatencyPerClass() {
+    var clock = new FakeClock();
+    var fifo = new SchedulingFifo<Integer>(2, clock::now);
+    fifo.offer(1, 0);
+    fifo.offer(2, 0);
+    clock.now = 10;
+    fifo.poll();
+    clock.now = 30;
+    fifo.poll();
+    var latency = fifo.latency(0);
+    assertEquals(new SchedulingFifo.Latency(2, 40, 30, 0), latency);
+    assertEquals(20.0, latency.averageNanos());
+    assertEquals(0.0, fifo.latency(1).averageNanos());
+  }
+
+  @Test
+  public void shouldUseAllTheClasses() {
+    var fifo = new SchedulingFifo<Integer>(64);
+    for(var i = 63; i >= 0; i--) {
+      fifo.offer(i, i);
+    }
+    for(var i = 0; i < 64; i++) {
+      assertEquals(i, fifo.poll());
+    }
+    fifo.offer(1);
+    fifo.clear();
+    assertEquals(0, fifo.size());
+    assertNull(fifo.poll());
+  }
+
+  @Test
+  public void shouldDropExpiredElementsWithANegativeClock() {
+    var clock = new FakeClock();
+    clock.now = -1_000;
+    var fifo = new SchedulingFifo<String>(1, clock::now);
+    fifo.offer("late", 0, 100, TimeUnit.NANOSECONDS);
+    fifo.offer("forever", 0, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    clock.now = -500;
+    assertEquals("forever", fifo.poll());
+    assertEquals(1, fifo.latency(0).dropCount());
+    assertEquals(0, fifo.size());
+  }
+
+  @Test
+  public void shouldSaturateTheExtremeTimeouts() {
+    var clock = new FakeClock();
+    clock.now = -1_000;
+    var fifo = new SchedulingFifo<String>(1, clock::now);
+    fifo.offer("expired", 0, Long.MIN_VALUE, TimeUnit.NANOSECONDS);
+    fifo.offer("negative", 0, -1, TimeUnit.DAYS);
+    fifo.offer("forever", 0, Long.MAX_VALUE, TimeUnit.DAYS);
+    clock.now = -999;
+    assertEquals("forever", fifo.poll());
+    assertEquals(2, fifo.latency(0).dropCount());
+
+    clock.now = Long.MAX_VALUE - 10;
+    fifo.offer("max", 0, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    fifo.offer("min", 0, Long.MIN_VALUE, TimeUnit.NANOSECONDS);
+    clock.now = Long.MAX_VALUE;
+    assertEquals("max", fifo.poll());
+    assertNull(fifo.poll());
+    assertEquals(3, fifo.latency(0).dropCount());
+  }
+}
@@ -0,0 +1,114 @@
+package fr.uge.fifo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@SuppressWarnings("static-method")
+public class SpscFifoTest {
+  @Test
+  public void shouldGetAnErrorWhenCapacityIsNonPositive() {
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> new SpscFifo<>(0)),
+        () -> assertThrows(IllegalArgumentException.class, () -> new SpscFifo<>(-1))
+    );
+  }
+
+  @Test
+  public void shouldRoundCapacityToAPowerOfTwo() {
+    assertEquals(16, new SpscFifo<>(10).capacity());
+  }
+
+  @Test
+  public void shouldBeAQueue() {
+    var fifo = new SpscFifo<String>(2);
+    assertTrue(fifo.offer("foo"));
+    assertTrue(fifo.offer("bar"));
+    assertFalse(fifo.offer("baz"));
+    assertEquals(2, fifo.size());
+    assertEquals(List.of("foo", "bar"), new ArrayList<>(fifo));
+    assertEquals("foo", fifo.peek());
+    assertEquals("foo", fifo.poll());
+    assertEquals("bar", fifo.poll());
+    assertNull(fifo.poll());
+    assertNull(fifo.peek());
+  }
+
+  @Test
+  public void shouldDrainAtMostMaxElements() {
+    var fifo = new SpscFifo<Integer>(8);
+    for(var i = 0; i < 6; i++) {
+      fifo.offer(i);
+    }
+    var list = new ArrayList<Integer>();
+    assertEquals(4, fifo.drainTo(list::add, 4));
+    assertEquals(List.of(0, 1, 2, 3), list);
+    assertEquals(2, fifo.drainTo(list::add, 10));
+    assertEquals(0, fifo.drainTo(list::add, 10));
+    assertEquals(List.of(0, 1, 2, 3, 4, 5), list);
+  }
+
+  @Test
+  public void shouldKeepTheRemainingElementsWhenTheConsumerThrows() {
+    var fifo = new SpscFifo<Integer>(8);
+    for(var i = 0; i < 6; i++) {
+      fifo.offer(i);
+    }
+    var list = new ArrayList<Integer>();
+    assertThrows(IllegalStateException.class, () -> fifo.drainTo(e -> {
+      list.add(e);
+      if(e == 2) {
+        throw new IllegalStateException();
+      }
+    }, 6));
+    assertEquals(List.of(0, 1, 2), list);
+    assertEquals(3, fifo.size());
+    assertEquals(3, fifo.peek());
+    assertEquals(3, fifo.poll());
+    assertEquals(2, fifo.drainTo(list::add, 10));
+    assertEquals(List.of(0, 1, 2, 4, 5), list);
+    assertTrue(fifo.isEmpty());
+  }
+
+  @Test
+  public void shouldDrainPreconditions() {
+    var fifo = new SpscFifo<Integer>(8);
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> fifo.drainTo(null, 1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> fifo.drainTo(e -> {}, -1))
+    );
+  }
+
+  @Test
+  @Timeout(10)
+  public void shouldKeepTheOrderBetweenTwoThreads() throws InterruptedException {
+    var fifo = new SpscFifo<Integer>(16);
+    var count = 100_000;
+    var producer = Thread.ofPlatform().start(() -> {
+      for(var i = 0; i < count; i++) {
+        while(!fifo.offer(i)) {
+          Thread.yield();
+        }
+      }
+    });
+    var received = new ArrayList<Integer>();
+    while(received.size() < count) {
+      if(fifo.drainTo(received::add, 7) == 0) {
+        Thread.yield();
+      }
+    }
+    producer.join();
+    for(var i = 0; i < count; i++) {
+      assertEquals(i, received.get(i));
+    }
+  }
+}
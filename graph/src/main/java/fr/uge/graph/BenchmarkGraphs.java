@@ -0,0 +1,66 @@
+package fr.uge.graph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Random;
+
+// the graphs used by the benchmarks, the same seed gives the same edges to all the implementations
+final class BenchmarkGraphs {
+	// the number of edges of each node of a sparse graph
+	static final int DEGREE = 16;
+
+	private BenchmarkGraphs() {
+		throw new AssertionError();
+	}
+
+	static Graph<Integer> create(String implementation, int nodeCount) {
+		return switch(implementation) {
+		case "MatrixGraph" -> Graph.createMatrixGraph(nodeCount);
+		case "ConcurrentMatrixGraph" -> Graph.createConcurrentMatrixGraph(nodeCount);
+		case "NodeMapGraph" -> Graph.createNodeMapGraph(nodeCount);
+		case "CsrGraph" -> Graph.createCsrGraph(sparse(nodeCount, 0));
+		case "MappedGraph" -> mapped(sparse(nodeCount, 0));
+		default -> throw new AssertionError(implementation);
+		};
+	}
+
+	// DEGREE random edges per node, the node 0 is connected to all the nodes to have a dense row
+	static Graph<Integer> fill(Graph<Integer> graph, long seed) {
+		var random = new Random(seed);
+		var nodeCount = graph.nodeCount();
+		for(var src = 0; src < nodeCount; src++) {
+			for(var i = 0; i < DEGREE; i++) {
+				graph.addEdge(src, random.nextInt(nodeCount), i);
+			}
+		}
+		for(var dst = 0; dst < nodeCount; dst++) {
+			graph.addEdge(0, dst, dst);
+		}
+		return graph;
+	}
+
+	// a sparse graph, either a mutable graph filled with random edges or an immutable copy
+	static Graph<Integer> sparse(String implementation, int nodeCount) {
+		var graph = create(implementation, nodeCount);
+		return switch(implementation) {
+		case "CsrGraph", "MappedGraph" -> graph;
+		default -> fill(graph, 0);
+		};
+	}
+
+	private static Graph<Integer> sparse(int nodeCount, long seed) {
+		return fill(Graph.createNodeMapGraph(nodeCount), seed);
+	}
+
+	private static Graph<Integer> mapped(Graph<Integer> graph) {
+		try {
+			var path = Files.createTempFile("graph", ".bin");
+			path.toFile().deleteOnExit();
+			GraphFile.write(graph, path, GraphFile.Format.INTEGER);
+			return GraphFile.map(path, GraphFile.Format.INTEGER);
+		} catch(IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package fr.uge.graph;
+
+/**
+ * A graph that only stores if there is an edge between two nodes, the weight of
+ * all the edges is {@link Boolean#TRUE}.
+ * The edges of a node are stored as a bitset, so the operations on the neighbors
+ * of two nodes are done 64 nodes at a time.
+ */
+public sealed interface BitGraph extends Graph<Boolean> permits BitMatrixGraph {
+	/**
+	 * Create a graph implementation based on a matrix of bits, each node uses
+	 * {@code nodeCount / 8} bytes.
+	 *
+	 * @param nodeCount the number of nodes.
+	 * @return a new implementation of BitGraph.
+	 * @throws IllegalArgumentException if nodeCount is negative or too big.
+	 */
+	public static BitGraph createMatrixGraph(int nodeCount) {
+		return new BitMatrixGraph(nodeCount);
+	}
+
+	/**
+	 * Add an edge between two nodes, do nothing if the edge already exists.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	void addEdge(int src, int dst);
+
+	/**
+	 * Add an edge between two nodes.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @param weight must be {@code true}.
+	 * @throws NullPointerException if weight is {@code null}.
+	 * @throws IllegalArgumentException if weight is {@code false}.
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	@Override
+	void addEdge(int src, int dst, Boolean weight);
+
+	/**
+	 * Remove an edge between two nodes, do nothing if there is no edge.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	void removeEdge(int src, int dst);
+
+	/**
+	 * Returns true if there is an edge between two nodes.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @return true if there is an edge between {@code src} and {@code dst}.
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	boolean hasEdge(int src, int dst);
+
+	/**
+	 * Returns the number of nodes connected to the node taken as parameter.
+	 *
+	 * @param src a node.
+	 * @return the number of edges that have src as source node.
+	 * @throws IndexOutOfBoundsException if src is not a valid node number.
+	 */
+	int degree(int src);
+
+	/**
+	 * Returns the number of nodes that are neighbors of both nodes.
+	 *
+	 * @param node1 a node.
+	 * @param node2 another node.
+	 * @return the number of nodes {@code n} such as there is an edge from node1 to {@code n}
+	 *         and an edge from node2 to {@code n}.
+	 * @throws IndexOutOfBoundsException if node1 or node2 is not a valid node number.
+	 */
+	int commonNeighborCount(int node1, int node2);
+
+	/**
+	 * Returns the number of triangles of an undirected graph, a graph where
+	 * each edge is present in both directions.
+	 * A triangle is a set of three different nodes connected to each other,
+	 * the self loops are ignored.
+	 *
+	 * @return the number of triangles.
+	 */
+	long triangleCount();
+
+	/**
+	 * Returns a new graph with an edge from a node to another if there is a path
+	 * between the two nodes in this graph.
+	 * A node has an edge to itself only if it is on a cycle.
+	 *
+	 * @return the transitive closure of this graph.
+	 */
+	BitGraph transitiveClosure();
+}
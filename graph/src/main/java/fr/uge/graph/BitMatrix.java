@@ -0,0 +1,154 @@
+package fr.uge.graph;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+// a matrix of bits, each row starts on a new long so a row can be scanned 64 columns at a time
+final class BitMatrix {
+	private final int columnCount;
+	private final int wordsPerRow;
+	private final long[] words;
+
+	BitMatrix(int rowCount, int columnCount) {
+		if(rowCount < 0 || columnCount < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.columnCount = columnCount;
+		this.wordsPerRow = (columnCount + 63) >>> 6;
+		var length = (long) rowCount * wordsPerRow;
+		if(length > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException("too many bits " + rowCount + " x " + columnCount);
+		}
+		this.words = new long[(int) length];
+	}
+
+	private BitMatrix(int columnCount, int wordsPerRow, long[] words) {
+		this.columnCount = columnCount;
+		this.wordsPerRow = wordsPerRow;
+		this.words = words;
+	}
+
+	// returns a copy with more rows and columns, the bits keep the same row and column
+	BitMatrix resize(int rowCount, int columnCount) {
+		var matrix = new BitMatrix(rowCount, columnCount);
+		var rows = Math.min(rowCount, words.length / Math.max(1, wordsPerRow));
+		var length = Math.min(wordsPerRow, matrix.wordsPerRow);
+		for(var row = 0; row < rows; row++) {
+			System.arraycopy(words, row * wordsPerRow, matrix.words, row * matrix.wordsPerRow, length);
+		}
+		return matrix;
+	}
+
+	private int wordIndex(int row, int column) {
+		return row * wordsPerRow + (column >>> 6);
+	}
+
+	boolean get(int row, int column) {
+		return (words[wordIndex(row, column)] & (1L << column)) != 0;
+	}
+
+	void set(int row, int column) {
+		words[wordIndex(row, column)] |= 1L << column;
+	}
+
+	void clear(int row, int column) {
+		words[wordIndex(row, column)] &= ~(1L << column);
+	}
+
+	// returns the first column >= from which bit is set or -1
+	int nextSetBit(int row, int from) {
+		if(from >= columnCount) {
+			return -1;
+		}
+		var rowStart = row * wordsPerRow;
+		var index = rowStart + (from >>> 6);
+		var word = words[index] & (-1L << from);
+		var rowEnd = rowStart + wordsPerRow;
+		for(;;) {
+			if(word != 0) {
+				return ((index - rowStart) << 6) + Long.numberOfTrailingZeros(word);
+			}
+			if(++index == rowEnd) {
+				return -1;
+			}
+			word = words[index];
+		}
+	}
+
+	// the number of columns >= from which bits are set in both rows, 64 columns at a time
+	int intersectionCount(int row1, int row2, int from) {
+		if(from >= columnCount) {
+			return 0;
+		}
+		var start1 = row1 * wordsPerRow;
+		var start2 = row2 * wordsPerRow;
+		var first = from >>> 6;
+		var count = Long.bitCount(words[start1 + first] & words[start2 + first] & (-1L << from));
+		for(var i = first + 1; i < wordsPerRow; i++) {
+			count += Long.bitCount(words[start1 + i] & words[start2 + i]);
+		}
+		return count;
+	}
+
+	// sets in dstRow all the bits set in srcRow
+	void or(int dstRow, int srcRow) {
+		var dstStart = dstRow * wordsPerRow;
+		var srcStart = srcRow * wordsPerRow;
+		for(var i = 0; i < wordsPerRow; i++) {
+			words[dstStart + i] |= words[srcStart + i];
+		}
+	}
+
+	// the number of bits set in a row
+	int rowCardinality(int row) {
+		var start = row * wordsPerRow;
+		var count = 0;
+		for(var i = 0; i < wordsPerRow; i++) {
+			count += Long.bitCount(words[start + i]);
+		}
+		return count;
+	}
+
+	BitMatrix copy() {
+		return new BitMatrix(columnCount, wordsPerRow, words.clone());
+	}
+
+	// an iterator on the columns of the bits set in a row, remove() clears the bit
+	PrimitiveIterator.OfInt rowIterator(int row) {
+		return rowIterator(row, column -> {});
+	}
+
+	// onRemove is called with the column after the bit is cleared by remove()
+	PrimitiveIterator.OfInt rowIterator(int row, IntConsumer onRemove) {
+		return new PrimitiveIterator.OfInt() {
+			private int next = nextSetBit(row, 0);
+			private int last = -1;
+
+			@Override
+			public boolean hasNext() {
+				return next != -1;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				last = next;
+				next = nextSetBit(row, next + 1);
+				return last;
+			}
+
+			@Override
+			public void remove() {
+				if(last == -1) {
+					throw new IllegalStateException();
+				}
+				clear(row, last);
+				onRemove.accept(last);
+				last = -1;
+			}
+		};
+	}
+}
@@ -0,0 +1,108 @@
+package fr.uge.graph;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+
+final class BitMatrixGraph implements BitGraph {
+
+	private final BitMatrix edges;
+	private final int nodeCount;
+
+	public BitMatrixGraph(int nodeCount) {
+		if(nodeCount < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.nodeCount = nodeCount;
+		this.edges = new BitMatrix(nodeCount, nodeCount);
+	}
+
+	private BitMatrixGraph(int nodeCount, BitMatrix edges) {
+		this.nodeCount = nodeCount;
+		this.edges = edges;
+	}
+
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	public void addEdge(int src, int dst) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		edges.set(src, dst);
+	}
+
+	public void addEdge(int src, int dst, Boolean weight) {
+		Objects.requireNonNull(weight);
+		if(!weight) {
+			throw new IllegalArgumentException("the weight of an edge is always true");
+		}
+		addEdge(src, dst);
+	}
+
+	public void removeEdge(int src, int dst) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		edges.clear(src, dst);
+	}
+
+	public boolean hasEdge(int src, int dst) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		return edges.get(src, dst);
+	}
+
+	public Optional<Boolean> getWeight(int src, int dst) {
+		return hasEdge(src, dst) ? Optional.of(true) : Optional.empty();
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src) {
+		Objects.checkIndex(src, nodeCount);
+		return edges.rowIterator(src);
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Edge<Boolean>> function) {
+		Objects.requireNonNull(function);
+		Objects.checkIndex(src, nodeCount);
+		for(var dst = edges.nextSetBit(src, 0); dst != -1; dst = edges.nextSetBit(src, dst + 1)) {
+			function.accept(new Edge<>(src, dst, true));
+		}
+	}
+
+	public int degree(int src) {
+		Objects.checkIndex(src, nodeCount);
+		return edges.rowCardinality(src);
+	}
+
+	public int commonNeighborCount(int node1, int node2) {
+		Objects.checkIndex(node1, nodeCount);
+		Objects.checkIndex(node2, nodeCount);
+		return edges.intersectionCount(node1, node2, 0);
+	}
+
+	public long triangleCount() {
+		// each triangle u < v < w is counted once, from its edge (u, v)
+		var count = 0L;
+		for(var u = 0; u < nodeCount; u++) {
+			for(var v = edges.nextSetBit(u, u + 1); v != -1; v = edges.nextSetBit(u, v + 1)) {
+				count += edges.intersectionCount(u, v, v + 1);
+			}
+		}
+		return count;
+	}
+
+	public BitGraph transitiveClosure() {
+		// Warshall, if i reaches k then i reaches all the nodes k reaches, a row is or-ed 64 bits at a time
+		var closure = edges.copy();
+		for(var k = 0; k < nodeCount; k++) {
+			for(var i = 0; i < nodeCount; i++) {
+				if(closure.get(i, k)) {
+					closure.or(i, k);
+				}
+			}
+		}
+		return new BitMatrixGraph(nodeCount, closure);
+	}
+}
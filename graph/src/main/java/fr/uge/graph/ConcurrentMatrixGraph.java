@@ -0,0 +1,166 @@
+package fr.uge.graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// a thread safe matrix graph, a cell is read with an acquire and written with a release
+// so a reader sees a weight fully initialized, the readers never take a lock;
+// the writers of a row take the lock of its stripe so a compound operation like mergeAll
+// is atomic for a row without a global lock
+final class ConcurrentMatrixGraph<T> implements Graph<T> {
+	private static final VarHandle ARRAY = MethodHandles.arrayElementVarHandle(Object[].class);
+	private static final int STRIPE_COUNT = 64;
+
+	private final Object[] array;
+	private final ReentrantLock[] locks;
+	private final int nodeCount;
+
+	public ConcurrentMatrixGraph(int nodeCount) {
+		if(nodeCount < 0 || (long) nodeCount * nodeCount > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException();
+		}
+		this.nodeCount = nodeCount;
+		this.array = new Object[nodeCount * nodeCount];
+		this.locks = new ReentrantLock[Math.max(1, Math.min(nodeCount, STRIPE_COUNT))];
+		for(var i = 0; i < locks.length; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	private ReentrantLock lock(int src) {
+		return locks[src % locks.length];
+	}
+
+	@SuppressWarnings("unchecked")
+	private T get(int index) {
+		return (T) ARRAY.getAcquire(array, index);
+	}
+
+	public void addEdge(int src, int dst, T weight) {
+		Objects.requireNonNull(weight);
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		var lock = lock(src);
+		lock.lock();
+		try {
+			ARRAY.setRelease(array, src * nodeCount + dst, weight);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public Optional<T> getWeight(int src, int dst) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		return Optional.ofNullable(get(src * nodeCount + dst));
+	}
+
+	@Override
+	public void mergeAll(Graph<? extends T> graph, BinaryOperator<T> merger) {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(merger);
+		if(graph.nodeCount() != nodeCount) {
+			throw new IllegalArgumentException();
+		}
+		for(var src = 0; src < nodeCount; src++) {
+			mergeRow(graph, src, merger);
+		}
+	}
+
+	@Override
+	public void mergeAllParallel(Graph<? extends T> graph, BinaryOperator<T> merger) {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(merger);
+		if(graph.nodeCount() != nodeCount) {
+			throw new IllegalArgumentException();
+		}
+		IntStream.range(0, nodeCount).parallel().forEach(src -> mergeRow(graph, src, merger));
+	}
+
+	// the row is merged atomically, the merger is called with the lock held
+	private void mergeRow(Graph<? extends T> graph, int src, BinaryOperator<T> merger) {
+		var lock = lock(src);
+		lock.lock();
+		try {
+			graph.forEachEdge(src, edge -> {
+				var index = src * nodeCount + edge.dst();
+				var old = get(index);
+				ARRAY.setRelease(array, index, old == null ? edge.weight() : Objects.requireNonNull(merger.apply(old, edge.weight())));
+			});
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src) {
+		Objects.checkIndex(src, nodeCount);
+		return new PrimitiveIterator.OfInt() {
+			private int next = nextEdge(0);
+			private int last = -1;
+
+			// the next destination node with an edge, the edges added or removed concurrently may be missed
+			private int nextEdge(int from) {
+				for(var dst = from; dst < nodeCount; dst++) {
+					if(get(src * nodeCount + dst) != null) {
+						return dst;
+					}
+				}
+				return -1;
+			}
+
+			@Override
+			public boolean hasNext() {
+				return next != -1;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				last = next;
+				next = nextEdge(next + 1);
+				return last;
+			}
+
+			@Override
+			public void remove() {
+				if(last == -1) {
+					throw new IllegalStateException();
+				}
+				var lock = lock(src);
+				lock.lock();
+				try {
+					ARRAY.setRelease(array, src * nodeCount + last, null);
+				} finally {
+					lock.unlock();
+				}
+				last = -1;
+			}
+		};
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Edge<T>> function) {
+		Objects.requireNonNull(function);
+		Objects.checkIndex(src, nodeCount);
+		for(var dst = 0; dst < nodeCount; dst++) {
+			var weight = get(src * nodeCount + dst);
+			if(weight != null) {
+				function.accept(new Edge<>(src, dst, weight));
+			}
+		}
+	}
+}
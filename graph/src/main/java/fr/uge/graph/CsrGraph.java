@@ -0,0 +1,113 @@
+package fr.uge.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// an immutable graph stored as compressed sparse rows, the neighbors of src are
+// targets[offsets[src]] to targets[offsets[src + 1] - 1], sorted, with their weights at the same index
+final class CsrGraph<T> implements Graph<T> {
+
+	private final int[] offsets;
+	private final int[] targets;
+	private final T[] weights;
+
+	private CsrGraph(int[] offsets, int[] targets, T[] weights) {
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+	}
+
+	@SuppressWarnings("unchecked")
+	static <T> CsrGraph<T> of(Graph<? extends T> graph) {
+		Objects.requireNonNull(graph);
+		var nodeCount = graph.nodeCount();
+		var offsets = new int[nodeCount + 1];
+		var targets = new int[16];
+		var weights = (T[]) new Object[16];
+		var edgeCount = 0;
+		var row = new ArrayList<Edge<? extends T>>();
+		for(var src = 0; src < nodeCount; src++) {
+			graph.forEachEdge(src, row::add);
+			row.sort(Comparator.comparingInt(Edge::dst));
+			if(edgeCount + row.size() > targets.length) {
+				var capacity = Math.max(targets.length << 1, edgeCount + row.size());
+				targets = Arrays.copyOf(targets, capacity);
+				weights = Arrays.copyOf(weights, capacity);
+			}
+			for(var edge: row) {
+				targets[edgeCount] = edge.dst();
+				weights[edgeCount] = edge.weight();
+				edgeCount++;
+			}
+			offsets[src + 1] = edgeCount;
+			row.clear();
+		}
+		return new CsrGraph<>(offsets, Arrays.copyOf(targets, edgeCount), Arrays.copyOf(weights, edgeCount));
+	}
+
+	public int nodeCount() {
+		return offsets.length - 1;
+	}
+
+	public int edgeCount() {
+		return targets.length;
+	}
+
+	public void addEdge(int src, int dst, T weight) {
+		throw new UnsupportedOperationException("immutable graph");
+	}
+
+	private int indexOf(int src, int dst) {
+		return Arrays.binarySearch(targets, offsets[src], offsets[src + 1], dst);
+	}
+
+	public Optional<T> getWeight(int src, int dst) {
+		Objects.checkIndex(src, nodeCount());
+		Objects.checkIndex(dst, nodeCount());
+		var index = indexOf(src, dst);
+		return index < 0 ? Optional.empty() : Optional.of(weights[index]);
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src) {
+		Objects.checkIndex(src, nodeCount());
+		return new PrimitiveIterator.OfInt() {
+			private int index = offsets[src];
+			private final int end = offsets[src + 1];
+
+			@Override
+			public boolean hasNext() {
+				return index < end;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return targets[index++];
+			}
+		};
+	}
+
+	@Override
+	public IntStream neighbors(int src) {
+		Objects.checkIndex(src, nodeCount());
+		return Arrays.stream(targets, offsets[src], offsets[src + 1]);
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Edge<T>> function) {
+		Objects.requireNonNull(function);
+		Objects.checkIndex(src, nodeCount());
+		for(var i = offsets[src]; i < offsets[src + 1]; i++) {
+			function.accept(new Edge<>(src, targets[i], weights[i]));
+		}
+	}
+}
@@ -0,0 +1,64 @@
+package fr.uge.graph;
+
+/**
+ * A graph with edge weights of type {@code double} that are not boxed.
+ * The methods of {@link Graph} are available with boxed {@link Double}s,
+ * the methods of this interface do not allocate.
+ */
+public sealed interface DoubleGraph extends Graph<Double> permits DoubleMatrixGraph {
+	/**
+	 * A function called with the source, the destination and the weight of an edge.
+	 */
+	@FunctionalInterface
+	interface EdgeConsumer {
+		/**
+		 * Called for an edge.
+		 * @param src the index of the source node.
+		 * @param dst the index of the destination node.
+		 * @param weight the weight of the edge.
+		 */
+		void accept(int src, int dst, double weight);
+	}
+
+	/**
+	 * Create a graph implementation based on a matrix of doubles.
+	 *
+	 * @param nodeCount the number of nodes.
+	 * @return a new implementation of DoubleGraph.
+	 * @throws IllegalArgumentException if nodeCount is negative or too big.
+	 */
+	public static DoubleGraph createMatrixGraph(int nodeCount) {
+		return new DoubleMatrixGraph(nodeCount);
+	}
+
+	/**
+	 * Add an edge between two nodes or replace it if an edge already exists.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @param weight weight of the edge.
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	void addEdge(int src, int dst, double weight);
+
+	/**
+	 * Return the weight of an edge.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @param defaultValue the value returned if there is no edge.
+	 * @return the weight of the edge between {@code src} and {@code dst} or {@code defaultValue}.
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	double getWeightAsDouble(int src, int dst, double defaultValue);
+
+	/**
+	 * Call the consumer for each edge associated to the source node.
+	 *
+	 * @param src the source node.
+	 * @param consumer the function called for all edge that have src as source node.
+	 * @throws NullPointerException if consumer is null.
+	 * @throws IndexOutOfBoundsException if src is not a valid index for a node.
+	 */
+	void forEachEdgeAsDouble(int src, EdgeConsumer consumer);
+}
@@ -0,0 +1,70 @@
+package fr.uge.graph;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+
+final class DoubleMatrixGraph implements DoubleGraph {
+
+	private final double[] weights;
+	// a weight is only valid if its bit is set
+	private final BitMatrix edges;
+	private final int nodeCount;
+
+	public DoubleMatrixGraph(int nodeCount) {
+		if(nodeCount < 0 || (long) nodeCount * nodeCount > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException();
+		}
+		this.nodeCount = nodeCount;
+		this.weights = new double[nodeCount * nodeCount];
+		this.edges = new BitMatrix(nodeCount, nodeCount);
+	}
+
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	public void addEdge(int src, int dst, double weight) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		weights[src * nodeCount + dst] = weight;
+		edges.set(src, dst);
+	}
+
+	public void addEdge(int src, int dst, Double weight) {
+		Objects.requireNonNull(weight);
+		addEdge(src, dst, weight.doubleValue());
+	}
+
+	public double getWeightAsDouble(int src, int dst, double defaultValue) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		return edges.get(src, dst) ? weights[src * nodeCount + dst] : defaultValue;
+	}
+
+	public Optional<Double> getWeight(int src, int dst) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		return edges.get(src, dst) ? Optional.of(weights[src * nodeCount + dst]) : Optional.empty();
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src) {
+		Objects.checkIndex(src, nodeCount);
+		return edges.rowIterator(src);
+	}
+
+	public void forEachEdgeAsDouble(int src, EdgeConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		Objects.checkIndex(src, nodeCount);
+		for(var dst = edges.nextSetBit(src, 0); dst != -1; dst = edges.nextSetBit(src, dst + 1)) {
+			consumer.accept(src, dst, weights[src * nodeCount + dst]);
+		}
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Edge<Double>> function) {
+		Objects.requireNonNull(function);
+		forEachEdgeAsDouble(src, (s, dst, weight) -> function.accept(new Edge<>(s, dst, weight)));
+	}
+}
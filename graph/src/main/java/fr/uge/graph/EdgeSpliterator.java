@@ -0,0 +1,77 @@
+package fr.uge.graph;
+
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import fr.uge.graph.Graph.Edge;
+
+// a spliterator on the edges of the rows [row, endRow) of any graph, it splits on row ranges
+// and uses forEachEdge() to get the edges of a row, so a row is buffered by tryAdvance()
+final class EdgeSpliterator<T> implements Spliterator<Edge<T>> {
+	private final Graph<T> graph;
+	private int row;
+	private final int endRow;
+	private ArrayList<Edge<T>> buffer = new ArrayList<>();
+	private int index;
+
+	EdgeSpliterator(Graph<T> graph, int row, int endRow) {
+		this.graph = graph;
+		this.row = row;
+		this.endRow = endRow;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super Edge<T>> action) {
+		Objects.requireNonNull(action);
+		while(index == buffer.size()) {
+			if(row == endRow) {
+				return false;
+			}
+			buffer.clear();
+			index = 0;
+			graph.forEachEdge(row++, buffer::add);
+		}
+		action.accept(buffer.get(index++));
+		return true;
+	}
+
+	@Override
+	public void forEachRemaining(Consumer<? super Edge<T>> action) {
+		Objects.requireNonNull(action);
+		for(; index < buffer.size(); index++) {
+			action.accept(buffer.get(index));
+		}
+		for(; row < endRow; row++) {
+			graph.forEachEdge(row, action);
+		}
+	}
+
+	@Override
+	public Spliterator<Edge<T>> trySplit() {
+		var middle = (row + endRow) >>> 1;
+		if(middle == row) {
+			return null;
+		}
+		// the prefix takes the edges already buffered to keep the encounter order
+		var prefix = new EdgeSpliterator<>(graph, row, middle);
+		prefix.buffer = buffer;
+		prefix.index = index;
+		buffer = new ArrayList<>();
+		index = 0;
+		row = middle;
+		return prefix;
+	}
+
+	@Override
+	public long estimateSize() {
+		// the number of edges is not known, the number of rows is a good enough hint to split
+		return endRow - row + buffer.size() - index;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | DISTINCT | NONNULL;
+	}
+}
@@ -0,0 +1,254 @@
+package fr.uge.graph;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An oriented graph with values on edges and not on nodes.
+ */
+public sealed interface Graph<T> permits MatrixGraph, ConcurrentMatrixGraph, NodeMapGraph, CsrGraph, MappedGraph, BitGraph, DoubleGraph, IntGraph{
+	/**
+	 * Returns the number of nodes of this graph.
+	 * @return the number of nodes of this graph.
+	 */
+	int nodeCount();
+
+	/**
+	 * Create a graph implementation based on a matrix.
+	 *
+	 * @param <T> type of the edge weight.
+	 * @param nodeCount the number of nodes.
+	 * @return a new implementation of Graph.
+	 */
+	public static <T>Graph<T> createMatrixGraph(int nodeCount){
+		return new MatrixGraph<T>(nodeCount);
+	}
+
+	/**
+	 * Create a thread safe graph implementation based on a matrix.
+	 * The readers never block, a weight is published with a release write and read
+	 * with an acquire read. The writers of a source node are serialized by a lock
+	 * shared by several source nodes, so {@code mergeAll} is atomic for each source node.
+	 * The iterators are weakly consistent, they may or may not see the edges added or
+	 * removed during the iteration.
+	 *
+	 * @param <T> type of the edge weight.
+	 * @param nodeCount the number of nodes.
+	 * @return a new thread safe implementation of Graph.
+	 * @throws IllegalArgumentException if nodeCount is negative or too big.
+	 */
+	public static <T>Graph<T> createConcurrentMatrixGraph(int nodeCount){
+		return new ConcurrentMatrixGraph<T>(nodeCount);
+	}
+
+	/**
+	 * Add an edge between two nodes or replace it if an edge already exists.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @param weight weight of the edge.
+	 * @throws NullPointerException if weight is {@code null}.
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	void addEdge(int src, int dst, T weight);
+
+	/**
+	 * Adds a new node without edge.
+	 * The graph based on a node map grows in amortized constant time,
+	 * the graph based on a matrix doubles its capacity when it is full
+	 * so the matrix is only copied a logarithmic number of times.
+	 *
+	 * @return the index of the new node, the previous node count.
+	 * @throws UnsupportedOperationException if the implementation has a fixed number of nodes.
+	 * @throws IllegalStateException if the graph can not contain more nodes.
+	 */
+	default int addNode() {
+		throw new UnsupportedOperationException("fixed number of nodes");
+	}
+
+	/**
+	 * Removes a node and all the edges from or to this node.
+	 * To avoid to renumber all the nodes, the last node, the node {@code nodeCount() - 1},
+	 * takes the index of the removed node with all its edges.
+	 *
+	 * @param node the node to remove.
+	 * @throws UnsupportedOperationException if the implementation has a fixed number of nodes.
+	 * @throws IndexOutOfBoundsException if node is not a valid node number.
+	 */
+	default void removeNode(int node) {
+		throw new UnsupportedOperationException("fixed number of nodes");
+	}
+
+	/**
+	 * Return the weight of an edge.
+	 *
+	 * @param src source node.
+	 * @param dst destination node.
+	 * @return the weight of the edge between {@code src}and {@code dst} or Optional.empty().
+	 * @throws IndexOutOfBoundsException if src or dst is not a valid node number.
+	 */
+	Optional<T> getWeight(int src, int dst);
+
+	/**
+	 * Adds all the edge values of the graph taken as parameter to the current graph,
+	 * uses the {@code merger} if there is already a value to merge the value.
+	 *
+	 * @param graph a graph
+	 * @param merger the function to call if there are two values to merge.
+	 * @throws NullPointerException if either graph or merger is null.
+	 * @throws IllegalArgumentException if the graphs do not have the same number of nodes.
+	 */
+	default void mergeAll(Graph<? extends T> graph, BinaryOperator<T> merger) {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(merger);
+		if(graph.nodeCount() != nodeCount()) {
+			throw new IllegalArgumentException();
+		}
+		for(var src=0; src < nodeCount(); src++) {
+			mergeRow(graph, src, merger);
+		}
+	}
+
+	/**
+	 * Adds all the edge values of the graph taken as parameter to the current graph
+	 * like {@link #mergeAll(Graph, BinaryOperator)} but the source nodes are
+	 * partitioned between the threads of the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	 * Two edges with different source nodes are merged independently so the {@code merger}
+	 * may be called concurrently by several threads.
+	 * None of the graphs should be modified by another thread during the merge.
+	 *
+	 * @param graph a graph
+	 * @param merger the function to call if there are two values to merge.
+	 * @throws NullPointerException if either graph or merger is null.
+	 * @throws IllegalArgumentException if the graphs do not have the same number of nodes.
+	 */
+	default void mergeAllParallel(Graph<? extends T> graph, BinaryOperator<T> merger) {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(merger);
+		if(graph.nodeCount() != nodeCount()) {
+			throw new IllegalArgumentException();
+		}
+		IntStream.range(0, nodeCount()).parallel().forEach(src -> mergeRow(graph, src, merger));
+	}
+
+	// only visits the edges of the source graph, all the implementations store the edges
+	// of different source nodes in different places so rows can be merged in parallel
+	private void mergeRow(Graph<? extends T> graph, int src, BinaryOperator<T> merger) {
+		graph.forEachEdge(src, edge -> {
+			var weight = getWeight(src, edge.dst());
+			addEdge(src, edge.dst(), weight.isPresent() ? merger.apply(weight.orElseThrow(), edge.weight()) : edge.weight());
+		});
+	}
+
+	/**
+	 * Returns all the nodes that are connected to the node taken as parameter.
+	 * The order of the nodes may be different that the insertion order.
+	 * The iterator is a {@link PrimitiveIterator.OfInt} so {@code nextInt()}
+	 * returns the nodes without boxing them.
+	 * @param src a node.
+	 * @return an iterator on all nodes connected to the specified source node.
+	 * @throws IndexOutOfBoundsException if src is not a valid node number.
+	 */
+	PrimitiveIterator.OfInt neighborIterator(int src);
+
+	/**
+	 * Returns all the nodes that are connected to the node taken as parameter as a stream.
+	 * The order of the nodes may be different that the insertion order.
+	 * @param src a node.
+	 * @return a stream of all nodes connected to the specified source node.
+	 * @throws IndexOutOfBoundsException if src is not a valid node number.
+	 */
+	default IntStream neighbors(int src) {
+		var iterator = neighborIterator(src);
+		return StreamSupport.intStream(
+				Spliterators.spliteratorUnknownSize(iterator, Spliterator.DISTINCT | Spliterator.NONNULL),
+				false);
+	}
+
+	/**
+	 * An edge of the graph.
+	 *
+	 * @param src the index of the source node.
+	 * @param dst the index of the destination node.
+	 * @param weight the weight associated to the edge.
+	 * @param <T> the type of the weight
+	 */
+	record Edge<T>(int src, int dst, T weight){
+		
+		public Edge{
+			if(src < 0 || dst < 0) {
+				throw new IllegalArgumentException();
+			}
+			Objects.requireNonNull(weight);
+		}
+	}
+
+	/**
+	 * Call the consumer for each edge associated to the source node.
+	 *
+	 * @param src the source node.
+	 * @param function the function called for all edge that have src as source node.
+	 * @throws NullPointerException if consumer is null.
+	 * @throws IndexOutOfBoundsException if src is not a valid index for a node.
+	 */
+	default void forEachEdge(int src,Consumer<? super Edge<T>> function) {
+		Objects.requireNonNull(function);
+		Objects.checkIndex(src, nodeCount());
+		for(var dst=0; dst < nodeCount();dst++) {
+			if(!getWeight(src, dst).isEmpty()) {
+				var value = new Edge<T>(src,dst,getWeight(src, dst).get());
+				function.accept(value);
+			}
+		}
+	}
+
+	// Q9
+
+	/**
+	 * Returns all the edges of the graph that have a value.
+	 * The stream splits on ranges of source nodes so {@code edges().parallel()}
+	 * processes different source nodes on different threads.
+	 *
+	 * @return all the edges of the graph that have a value in any order.
+	 */
+	default Stream<Edge<T>> edges() {
+		return StreamSupport.stream(new EdgeSpliterator<>(this, 0, nodeCount()), false);
+	}
+
+	/**
+	 * Create a graph implementation based on a node map.
+	 * The memory used is proportional to the number of nodes plus the number of edges,
+	 * so this implementation is better suited for large graphs with few edges per node.
+	 *
+	 * @param nodeCount the number of nodes
+	 * @return a new graph implementation
+	 * @param <T> type of the edge weight
+	 */
+	public static <T>Graph<T> createNodeMapGraph(int nodeCount){
+		return new NodeMapGraph<T>(nodeCount);
+	}
+
+	/**
+	 * Create an immutable copy of a graph stored as compressed sparse rows:
+	 * the neighbors of all nodes are stored contiguously in one array of ints
+	 * so iterating over the neighbors of a node is a sequential scan.
+	 * The returned graph does not support {@code addEdge} and the {@code remove}
+	 * of its neighbor iterators.
+	 *
+	 * @param graph the graph to copy.
+	 * @return a new immutable graph with the same edges.
+	 * @param <T> type of the edge weight
+	 * @throws NullPointerException if graph is null.
+	 */
+	public static <T>Graph<T> createCsrGraph(Graph<? extends T> graph){
+		return CsrGraph.of(graph);
+	}
+}
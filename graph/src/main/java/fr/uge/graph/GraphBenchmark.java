@@ -0,0 +1,146 @@
+package fr.uge.graph;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import fr.uge.graph.algo.Traversals;
+
+// the mutable implementations, a matrix of 100 000 nodes has more cells than an array can contain
+// so the sizes stop at 10 000, see SparseGraphBenchmark for bigger graphs
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class GraphBenchmark {
+	private static final int COUNT = 1_024;
+
+	@Param({ "MatrixGraph", "ConcurrentMatrixGraph", "NodeMapGraph" })
+	private String implementation;
+
+	@Param({ "1000", "10000" })
+	private int nodeCount;
+
+	private Graph<Integer> graph;
+	private Graph<Integer> other;
+	private final int[] sources = new int[COUNT];
+	private final int[] destinations = new int[COUNT];
+
+	@Setup
+	public void setup() {
+		graph = BenchmarkGraphs.sparse(implementation, nodeCount);
+		other = BenchmarkGraphs.fill(BenchmarkGraphs.create(implementation, nodeCount), 1);
+		var random = new Random(0);
+		for(var i = 0; i < COUNT; i++) {
+			sources[i] = random.nextInt(nodeCount);
+			destinations[i] = random.nextInt(nodeCount);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public void addEdge() {
+		for(var i = 0; i < COUNT; i++) {
+			graph.addEdge(sources[i], destinations[i], i);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int getWeight() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			sum += graph.getWeight(sources[i], destinations[i]).orElse(0);
+		}
+		return sum;
+	}
+
+	// rows with around DEGREE neighbors
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int neighborIterator_sparse() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			var iterator = graph.neighborIterator(sources[i] == 0 ? 1 : sources[i]);
+			while(iterator.hasNext()) {
+				sum += iterator.nextInt();
+			}
+		}
+		return sum;
+	}
+
+	// the row of the node 0 contains all the nodes
+	@Benchmark
+	public int neighborIterator_dense() {
+		var sum = 0;
+		var iterator = graph.neighborIterator(0);
+		while(iterator.hasNext()) {
+			sum += iterator.nextInt();
+		}
+		return sum;
+	}
+
+	// the same graph for all the implementations, to compare the cost of a traversal
+	@Benchmark
+	public int[] bfs() {
+		return Traversals.bfs(graph, 1);
+	}
+
+	@Benchmark
+	public void forEachEdge(Blackhole blackhole) {
+		for(var src = 0; src < nodeCount; src++) {
+			graph.forEachEdge(src, blackhole::consume);
+		}
+	}
+
+	// merging with Integer::max is a no-op the second time, so each invocation
+	// merges into a fresh sparse graph, the setup is long but not measured
+	@State(Scope.Thread)
+	public static class MergeState {
+		private Graph<Integer> target;
+
+		@Setup(Level.Invocation)
+		public void setup(GraphBenchmark benchmark) {
+			target = BenchmarkGraphs.sparse(benchmark.implementation, benchmark.nodeCount);
+		}
+	}
+
+	@Benchmark
+	public void mergeAll(MergeState state) {
+		state.target.mergeAll(other, Integer::max);
+	}
+
+	@Benchmark
+	public void mergeAllParallel(MergeState state) {
+		state.target.mergeAllParallel(other, Integer::max);
+	}
+
+	// runs all the graph benchmarks with the GC profiler to report the allocation rate
+	public static void main(String[] args) throws RunnerException {
+		var options = new OptionsBuilder()
+				.include("fr\\.uge\\.graph\\..*Benchmark")
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,273 @@
+package fr.uge.graph;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Reads and writes graphs in a binary snapshot format.
+ * <p>
+ * The file contains a header, then the edges stored as compressed sparse rows:
+ * an array of {@code nodeCount + 1} offsets, the array of the destination nodes sorted
+ * by source node then by destination node, and the array of the weights encoded
+ * by a {@link Format}.
+ * A file is loaded by {@link #map(Path, Format)} that maps the file in memory,
+ * the edges are not copied on the heap and several processes loading the same file
+ * share the same pages.
+ * All the values are stored in big endian.
+ */
+public final class GraphFile {
+	private GraphFile() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * How the weights are stored in the file, each weight uses the same number of bytes.
+	 *
+	 * @param <T> the type of the weights.
+	 */
+	public static final class Format<T> {
+		/**
+		 * Weights stored as 4 bytes ints.
+		 */
+		public static final Format<Integer> INTEGER = new Format<>("INTEGER", 1, Integer.BYTES,
+				(buffer, index, weight) -> buffer.putInt(index, weight), ByteBuffer::getInt);
+		/**
+		 * Weights stored as 8 bytes longs.
+		 */
+		public static final Format<Long> LONG = new Format<>("LONG", 2, Long.BYTES,
+				(buffer, index, weight) -> buffer.putLong(index, weight), ByteBuffer::getLong);
+		/**
+		 * Weights stored as 8 bytes doubles.
+		 */
+		public static final Format<Double> DOUBLE = new Format<>("DOUBLE", 3, Double.BYTES,
+				(buffer, index, weight) -> buffer.putDouble(index, weight), ByteBuffer::getDouble);
+
+		private interface Writer<T> {
+			void write(ByteBuffer buffer, int index, T weight);
+		}
+
+		private interface Reader<T> {
+			T read(ByteBuffer buffer, int index);
+		}
+
+		private final String name;
+		private final int tag;
+		private final int size;
+		private final Writer<? super T> writer;
+		private final Reader<? extends T> reader;
+
+		private Format(String name, int tag, int size, Writer<? super T> writer, Reader<? extends T> reader) {
+			this.name = name;
+			this.tag = tag;
+			this.size = size;
+			this.writer = writer;
+			this.reader = reader;
+		}
+
+		T read(ByteBuffer buffer, int index) {
+			return reader.read(buffer, index * size);
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	private static final int MAGIC = 0x47524630;  // GRF0
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 32;
+	private static final int FORMAT_OFFSET = 8;
+	private static final int NODE_COUNT_OFFSET = 12;
+	private static final int EDGE_COUNT_OFFSET = 16;
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	private static long align(long position) {
+		return (position + 7) & ~7L;
+	}
+
+	private static long targetsPosition(int nodeCount) {
+		return HEADER_SIZE + (nodeCount + 1L) * Integer.BYTES;
+	}
+
+	private static long weightsPosition(int nodeCount, int edgeCount) {
+		return align(targetsPosition(nodeCount) + (long) edgeCount * Integer.BYTES);
+	}
+
+	// a positional write may write only a part of the buffer
+	private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+		while(buffer.hasRemaining()) {
+			position += channel.write(buffer, position);
+		}
+	}
+
+	// a buffer flushed at an increasing position of the file
+	private static final class SectionWriter {
+		private final FileChannel channel;
+		private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		private long position;
+
+		private SectionWriter(FileChannel channel, long position) {
+			this.channel = channel;
+			this.position = position;
+		}
+
+		private ByteBuffer reserve(int size) throws IOException {
+			if(buffer.remaining() < size) {
+				flush();
+			}
+			return buffer;
+		}
+
+		private void flush() throws IOException {
+			buffer.flip();
+			var size = buffer.remaining();
+			writeFully(channel, buffer, position);
+			position += size;
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Writes a graph in a file, the file is created or truncated.
+	 * Each section of the file is mapped as one buffer, so the graph can have at most
+	 * {@code Integer.MAX_VALUE / 4 - 1} nodes and {@code Integer.MAX_VALUE / max(4, weight size)} edges.
+	 *
+	 * @param graph the graph to write.
+	 * @param path the path of the file.
+	 * @param format the format of the weights.
+	 * @param <T> the type of the weights.
+	 * @throws NullPointerException if one of the parameters is null.
+	 * @throws IllegalArgumentException if the graph has too many nodes or edges to be mapped.
+	 * @throws IOException if an I/O error occurs.
+	 */
+	public static <T> void write(Graph<? extends T> graph, Path path, Format<T> format) throws IOException {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(format);
+		var nodeCount = graph.nodeCount();
+		// each section is mapped as one buffer so it must be smaller than 2 gigs
+		var offsetsSize = (nodeCount + 1L) * Integer.BYTES;
+		if(offsetsSize > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("too many nodes, more than " + (Integer.MAX_VALUE / Integer.BYTES - 1));
+		}
+		var offsets = ByteBuffer.allocate((int) offsetsSize);
+		var maxEdgeCount = Integer.MAX_VALUE / Math.max(Integer.BYTES, format.size);
+		var edgeCount = 0;
+		offsets.putInt(0);
+		for(var src = 0; src < nodeCount; src++) {
+			var iterator = graph.neighborIterator(src);
+			while(iterator.hasNext()) {
+				iterator.nextInt();
+				if(++edgeCount > maxEdgeCount) {
+					throw new IllegalArgumentException("too many edges, more than " + maxEdgeCount);
+				}
+			}
+			offsets.putInt(edgeCount);
+		}
+		try(var channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			var header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(0, MAGIC);
+			header.putInt(4, VERSION);
+			header.putInt(FORMAT_OFFSET, format.tag);
+			header.putInt(NODE_COUNT_OFFSET, nodeCount);
+			header.putInt(EDGE_COUNT_OFFSET, edgeCount);
+			writeFully(channel, header, 0);
+			writeFully(channel, offsets.flip(), HEADER_SIZE);
+			var targets = new SectionWriter(channel, targetsPosition(nodeCount));
+			var weights = new SectionWriter(channel, weightsPosition(nodeCount, edgeCount));
+			var row = new ArrayList<Graph.Edge<? extends T>>();
+			for(var src = 0; src < nodeCount; src++) {
+				graph.forEachEdge(src, row::add);
+				row.sort(Comparator.comparingInt(Graph.Edge::dst));
+				for(var edge: row) {
+					targets.reserve(Integer.BYTES).putInt(edge.dst());
+					var buffer = weights.reserve(format.size);
+					format.writer.write(buffer, buffer.position(), edge.weight());
+					buffer.position(buffer.position() + format.size);
+				}
+				row.clear();
+			}
+			// the padding before the weights, so the file always ends after the weights
+			var padding = (int) (weightsPosition(nodeCount, edgeCount) - targetsPosition(nodeCount) - (long) edgeCount * Integer.BYTES);
+			targets.reserve(padding).put(new byte[padding]);
+			targets.flush();
+			weights.flush();
+		}
+	}
+
+	// the offsets must be increasing and the targets of a row sorted and valid nodes,
+	// so the mapped graph never reads outside its buffers
+	private static void checkEdges(IntBuffer offsets, IntBuffer targets, int nodeCount, int edgeCount) throws IOException {
+		if(offsets.get(0) != 0 || offsets.get(nodeCount) != edgeCount) {
+			throw new IOException("corrupted graph file");
+		}
+		for(var src = 0; src < nodeCount; src++) {
+			var start = offsets.get(src);
+			var end = offsets.get(src + 1);
+			if(end < start || end > edgeCount) {
+				throw new IOException("corrupted graph file, invalid offset of node " + src);
+			}
+			var previous = -1;
+			for(var i = start; i < end; i++) {
+				var dst = targets.get(i);
+				if(dst <= previous || dst >= nodeCount) {
+					throw new IOException("corrupted graph file, invalid edge of node " + src);
+				}
+				previous = dst;
+			}
+		}
+	}
+
+	/**
+	 * Maps a file written by {@link #write(Graph, Path, Format)} in memory
+	 * and returns a read-only graph backed by the mapping.
+	 * The returned graph does not support {@code addEdge} and the {@code remove}
+	 * of its neighbor iterators, the file should not be modified while the graph is used.
+	 * The offsets and the destination nodes are checked when the file is mapped,
+	 * in {@code O(nodeCount + edgeCount)}, the weights are not checked.
+	 *
+	 * @param path the path of the file.
+	 * @param format the format of the weights, it must be the format used to write the file.
+	 * @param <T> the type of the weights.
+	 * @return a read-only graph.
+	 * @throws NullPointerException if path or format is null.
+	 * @throws IOException if an I/O error occurs or if the file is not a graph file with the weights in this format.
+	 */
+	public static <T> Graph<T> map(Path path, Format<T> format) throws IOException {
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(format);
+		try(var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			var size = channel.size();
+			if(size < HEADER_SIZE) {
+				throw new IOException("not a graph file");
+			}
+			var header = channel.map(MapMode.READ_ONLY, 0, HEADER_SIZE);
+			if(header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+				throw new IOException("not a graph file");
+			}
+			if(header.getInt(FORMAT_OFFSET) != format.tag) {
+				throw new IOException("the weights are not stored as " + format);
+			}
+			var nodeCount = header.getInt(NODE_COUNT_OFFSET);
+			var edgeCount = header.getInt(EDGE_COUNT_OFFSET);
+			if(nodeCount < 0 || edgeCount < 0 || size < weightsPosition(nodeCount, edgeCount) + (long) edgeCount * format.size) {
+				throw new IOException("corrupted graph file");
+			}
+			// the mappings stay valid after the channel is closed
+			var offsets = channel.map(MapMode.READ_ONLY, HEADER_SIZE, (nodeCount + 1L) * Integer.BYTES).asIntBuffer();
+			var targets = channel.map(MapMode.READ_ONLY, targetsPosition(nodeCount), (long) edgeCount * Integer.BYTES).asIntBuffer();
+			var weights = channel.map(MapMode.READ_ONLY, weightsPosition(nodeCount, edgeCount), (long) edgeCount * format.size);
+			checkEdges(offsets, targets, nodeCount, edgeCount);
+			return new MappedGraph<>(offsets, targets, weights, format);
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package fr.uge.graph;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+
+final class IntMatrixGraph implements IntGraph {
+
+	private final int[] weights;
+	// a weight is only valid if its bit is set
+	private final BitMatrix edges;
+	private final int nodeCount;
+
+	public IntMatrixGraph(int nodeCount) {
+		if(nodeCount < 0 || (long) nodeCount * nodeCount > Integer.MAX_VALUE - 8) {
+			throw new IllegalArgumentException();
+		}
+		this.nodeCount = nodeCount;
+		this.weights = new int[nodeCount * nodeCount];
+		this.edges = new BitMatrix(nodeCount, nodeCount);
+	}
+
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	public void addEdge(int src, int dst, int weight) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		weights[src * nodeCount + dst] = weight;
+		edges.set(src, dst);
+	}
+
+	public void addEdge(int src, int dst, Integer weight) {
+		Objects.requireNonNull(weight);
+		addEdge(src, dst, weight.intValue());
+	}
+
+	public int getWeightAsInt(int src, int dst, int defaultValue) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		return edges.get(src, dst) ? weights[src * nodeCount + dst] : defaultValue;
+	}
+
+	public Optional<Integer> getWeight(int src, int dst) {
+		Objects.checkIndex(src, nodeCount);
+		Objects.checkIndex(dst, nodeCount);
+		return edges.get(src, dst) ? Optional.of(weights[src * nodeCount + dst]) : Optional.empty();
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src) {
+		Objects.checkIndex(src, nodeCount);
+		return edges.rowIterator(src);
+	}
+
+	public void forEachEdgeAsInt(int src, EdgeConsumer consumer) {
+		Objects.requireNonNull(consumer);
+		Objects.checkIndex(src, nodeCount);
+		for(var dst = edges.nextSetBit(src, 0); dst != -1; dst = edges.nextSetBit(src, dst + 1)) {
+			consumer.accept(src, dst, weights[src * nodeCount + dst]);
+		}
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Edge<Integer>> function) {
+		Objects.requireNonNull(function);
+		forEachEdgeAsInt(src, (s, dst, weight) -> function.accept(new Edge<>(s, dst, weight)));
+	}
+}
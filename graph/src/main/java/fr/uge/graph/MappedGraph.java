@@ -0,0 +1,98 @@
+package fr.uge.graph;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+// a read-only graph stored as compressed sparse rows in buffers mapped from a file, see GraphFile,
+// only the offsets of a row are read to find the neighbors, nothing is copied on the heap
+final class MappedGraph<T> implements Graph<T> {
+	private final IntBuffer offsets;
+	private final IntBuffer targets;
+	private final ByteBuffer weights;
+	private final GraphFile.Format<T> format;
+
+	MappedGraph(IntBuffer offsets, IntBuffer targets, ByteBuffer weights, GraphFile.Format<T> format) {
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+		this.format = format;
+	}
+
+	public int nodeCount() {
+		return offsets.capacity() - 1;
+	}
+
+	public int edgeCount() {
+		return targets.capacity();
+	}
+
+	public void addEdge(int src, int dst, T weight) {
+		throw new UnsupportedOperationException("read-only graph");
+	}
+
+	private int indexOf(int src, int dst) {
+		var low = offsets.get(src);
+		var high = offsets.get(src + 1) - 1;
+		while(low <= high) {
+			var middle = (low + high) >>> 1;
+			var target = targets.get(middle);
+			if(target < dst) {
+				low = middle + 1;
+			} else if(target > dst) {
+				high = middle - 1;
+			} else {
+				return middle;
+			}
+		}
+		return -1;
+	}
+
+	public Optional<T> getWeight(int src, int dst) {
+		Objects.checkIndex(src, nodeCount());
+		Objects.checkIndex(dst, nodeCount());
+		var index = indexOf(src, dst);
+		return index < 0 ? Optional.empty() : Optional.of(format.read(weights, index));
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src) {
+		Objects.checkIndex(src, nodeCount());
+		return new PrimitiveIterator.OfInt() {
+			private int index = offsets.get(src);
+			private final int end = offsets.get(src + 1);
+
+			@Override
+			public boolean hasNext() {
+				return index < end;
+			}
+
+			@Override
+			public int nextInt() {
+				if(!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return targets.get(index++);
+			}
+		};
+	}
+
+	@Override
+	public IntStream neighbors(int src) {
+		Objects.checkIndex(src, nodeCount());
+		return IntStream.range(offsets.get(src), offsets.get(src + 1)).map(targets::get);
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Edge<T>> function) {
+		Objects.requireNonNull(function);
+		Objects.checkIndex(src, nodeCount());
+		for(var i = offsets.get(src); i < offsets.get(src + 1); i++) {
+			function.accept(new Edge<>(src, targets.get(i), format.read(weights, i)));
+		}
+	}
+}
@@ -0,0 +1,235 @@
+package fr.uge.graph;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+final class MatrixGraph<T> implements Graph<T> {
+	
+	public record Edge<T>(int src,int dst,T weight){
+		
+	}
+
+	// the largest capacity such as capacity * capacity is a valid array length
+	private static final int MAX_CAPACITY = 46_340;
+
+	// the cell (src, dst) is at src*capacity+dst, capacity >= nodeCount grows geometrically
+	private T[] array;
+	// bit (src, dst) is set if there is an edge, so the neighbors are found 64 columns at a time
+	private BitMatrix edges;
+	private int capacity;
+	private int nodeCount;
+	@SuppressWarnings("unchecked")
+	public MatrixGraph(int nodeNb) {
+		if(nodeNb < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.nodeCount = nodeNb;
+		this.capacity = nodeNb;
+		this.array = (T[]) new Object[nodeCount * nodeCount];
+		this.edges = new BitMatrix(nodeCount, nodeCount);
+
+	}
+
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	public void addEdge(int src, int dst, T weight) {
+		Objects.requireNonNull(weight);
+		Objects.checkIndex(src, nodeCount());
+		Objects.checkIndex(dst, nodeCount());
+		this.array[src*capacity+dst]=weight;
+		edges.set(src, dst);
+	}
+
+	public Optional<T> getWeight(int src, int dst){
+		Objects.checkIndex(src, nodeCount());
+		Objects.checkIndex(dst, nodeCount());
+		return Optional.ofNullable(array[src*capacity+dst]);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int addNode() {
+		if(nodeCount == capacity) {
+			if(capacity >= MAX_CAPACITY) {
+				throw new IllegalStateException("too many nodes");
+			}
+			var newCapacity = (int) Math.min(MAX_CAPACITY, Math.max(4L, capacity * 2L));
+			var newArray = (T[]) new Object[newCapacity * newCapacity];
+			for(var src = 0; src < nodeCount; src++) {
+				System.arraycopy(array, src * capacity, newArray, src * newCapacity, nodeCount);
+			}
+			array = newArray;
+			edges = edges.resize(newCapacity, newCapacity);
+			capacity = newCapacity;
+		}
+		return nodeCount++;
+	}
+
+	@Override
+	public void removeNode(int node) {
+		Objects.checkIndex(node, nodeCount);
+		var last = nodeCount - 1;
+		if(node == last) {
+			for(var i = 0; i < nodeCount; i++) {
+				clearCell(i, last);
+				clearCell(last, i);
+			}
+			nodeCount--;
+			return;
+		}
+		// the edges of the last node become the edges of the removed node,
+		// first the column then the row so the self loop of the last node ends at (node, node)
+		for(var src = 0; src < nodeCount; src++) {
+			move(src, last, src, node);
+		}
+		for(var dst = 0; dst < nodeCount; dst++) {
+			move(last, dst, node, dst);
+		}
+		nodeCount--;
+	}
+
+	private void clearCell(int src, int dst) {
+		array[src*capacity+dst] = null;
+		edges.clear(src, dst);
+	}
+
+	private void move(int fromSrc, int fromDst, int toSrc, int toDst) {
+		var weight = array[fromSrc*capacity+fromDst];
+		clearCell(fromSrc, fromDst);
+		if(weight == null) {
+			clearCell(toSrc, toDst);
+		} else {
+			array[toSrc*capacity+toDst] = weight;
+			edges.set(toSrc, toDst);
+		}
+	}
+
+	@Override
+	public void mergeAll(Graph<? extends T> graph, BinaryOperator<T> merger) {
+		if(!(graph instanceof MatrixGraph<? extends T> matrix)) {
+			Graph.super.mergeAll(graph, merger);
+			return;
+		}
+		Objects.requireNonNull(merger);
+		if(matrix.nodeCount != nodeCount) {
+			throw new IllegalArgumentException();
+		}
+		for(var src = 0; src < nodeCount; src++) {
+			mergeRow(matrix, src, merger);
+		}
+	}
+
+	@Override
+	public void mergeAllParallel(Graph<? extends T> graph, BinaryOperator<T> merger) {
+		if(!(graph instanceof MatrixGraph<? extends T> matrix)) {
+			Graph.super.mergeAllParallel(graph, merger);
+			return;
+		}
+		Objects.requireNonNull(merger);
+		if(matrix.nodeCount != nodeCount) {
+			throw new IllegalArgumentException();
+		}
+		IntStream.range(0, nodeCount).parallel().forEach(src -> mergeRow(matrix, src, merger));
+	}
+
+	// merges directly the cells of the arrays, the rows of the bit matrix are aligned on longs
+	// so two threads merging different rows never write the same long
+	private void mergeRow(MatrixGraph<? extends T> graph, int src, BinaryOperator<T> merger) {
+		for(var dst = graph.edges.nextSetBit(src, 0); dst != -1; dst = graph.edges.nextSetBit(src, dst + 1)) {
+			var index = src*capacity+dst;
+			var weight = graph.array[src*graph.capacity+dst];
+			var old = array[index];
+			array[index] = old == null ? weight : Objects.requireNonNull(merger.apply(old, weight));
+			edges.set(src, dst);
+		}
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src){
+		Objects.checkIndex(src, nodeCount());
+		return edges.rowIterator(src, dst -> array[src*capacity+dst]=null);
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Graph.Edge<T>> function) {
+		Objects.requireNonNull(function);
+		Objects.checkIndex(src, nodeCount());
+		for(var dst = edges.nextSetBit(src, 0); dst != -1; dst = edges.nextSetBit(src, dst + 1)) {
+			function.accept(new Graph.Edge<>(src, dst, array[src*capacity+dst]));
+		}
+	}
+
+	@Override
+	public Stream<Graph.Edge<T>> edges() {
+		return StreamSupport.stream(new MatrixEdgeSpliterator(0, 0, nodeCount), false);
+	}
+
+	// walks the bits of the rows [row, endRow) starting at column of the first row,
+	// unlike the default spliterator it needs no buffer because a cell is a cursor
+	private final class MatrixEdgeSpliterator implements Spliterator<Graph.Edge<T>> {
+		private int row;
+		private int column;
+		private final int endRow;
+
+		private MatrixEdgeSpliterator(int row, int column, int endRow) {
+			this.row = row;
+			this.column = column;
+			this.endRow = endRow;
+		}
+
+		@Override
+		public boolean tryAdvance(Consumer<? super Graph.Edge<T>> action) {
+			Objects.requireNonNull(action);
+			for(; row < endRow; row++, column = 0) {
+				var dst = edges.nextSetBit(row, column);
+				if(dst != -1) {
+					column = dst + 1;
+					action.accept(new Graph.Edge<>(row, dst, array[row*capacity+dst]));
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(Consumer<? super Graph.Edge<T>> action) {
+			Objects.requireNonNull(action);
+			for(; row < endRow; row++, column = 0) {
+				for(var dst = edges.nextSetBit(row, column); dst != -1; dst = edges.nextSetBit(row, dst + 1)) {
+					action.accept(new Graph.Edge<>(row, dst, array[row*capacity+dst]));
+				}
+			}
+		}
+
+		@Override
+		public Spliterator<Graph.Edge<T>> trySplit() {
+			var middle = (row + 1 + endRow) >>> 1;
+			if(middle >= endRow) {
+				return null;
+			}
+			var prefix = new MatrixEdgeSpliterator(row, column, middle);
+			row = middle;
+			column = 0;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			// at most all the remaining cells
+			return (long) (endRow - row) * nodeCount - column;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | DISTINCT | NONNULL;
+		}
+	}
+}
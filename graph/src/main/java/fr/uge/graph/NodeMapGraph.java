@@ -0,0 +1,102 @@
+package fr.uge.graph;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.Consumer;
+
+final class NodeMapGraph<T> implements Graph<T> {
+
+	// one map per source node, from the destination node to the weight,
+	// the array grows geometrically, only the first nodeCount maps are used
+	private HashMap<Integer, T>[] nodes;
+	private int nodeCount;
+
+	@SuppressWarnings("unchecked")
+	public NodeMapGraph(int nodeCount) {
+		if(nodeCount < 0) {
+			throw new IllegalArgumentException();
+		}
+		this.nodes = (HashMap<Integer, T>[]) new HashMap<?, ?>[nodeCount];
+		this.nodeCount = nodeCount;
+		for(var i = 0; i < nodeCount; i++) {
+			nodes[i] = new HashMap<>();
+		}
+	}
+
+	public int nodeCount() {
+		return nodeCount;
+	}
+
+	@Override
+	public int addNode() {
+		if(nodeCount == nodes.length) {
+			nodes = Arrays.copyOf(nodes, Math.max(4, nodeCount * 2));
+		}
+		nodes[nodeCount] = new HashMap<>();
+		return nodeCount++;
+	}
+
+	@Override
+	public void removeNode(int node) {
+		Objects.checkIndex(node, nodeCount);
+		var last = nodeCount - 1;
+		nodes[node] = nodes[last];
+		nodes[last] = null;
+		nodeCount--;
+		// the edges to the removed node are removed, the edges to the last node now go to node
+		for(var i = 0; i < nodeCount; i++) {
+			var map = nodes[i];
+			map.remove(node);
+			if(node != last) {
+				var weight = map.remove(last);
+				if(weight != null) {
+					map.put(node, weight);
+				}
+			}
+		}
+	}
+
+	public void addEdge(int src, int dst, T weight) {
+		Objects.requireNonNull(weight);
+		Objects.checkIndex(src, nodeCount());
+		Objects.checkIndex(dst, nodeCount());
+		nodes[src].put(dst, weight);
+	}
+
+	public Optional<T> getWeight(int src, int dst) {
+		Objects.checkIndex(src, nodeCount());
+		Objects.checkIndex(dst, nodeCount());
+		return Optional.ofNullable(nodes[src].get(dst));
+	}
+
+	public PrimitiveIterator.OfInt neighborIterator(int src) {
+		Objects.checkIndex(src, nodeCount());
+		var iterator = nodes[src].keySet().iterator();
+		return new PrimitiveIterator.OfInt() {
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public int nextInt() {
+				return iterator.next();
+			}
+
+			@Override
+			public void remove() {
+				iterator.remove();
+			}
+		};
+	}
+
+	@Override
+	public void forEachEdge(int src, Consumer<? super Edge<T>> function) {
+		Objects.requireNonNull(function);
+		Objects.checkIndex(src, nodeCount());
+		nodes[src].forEach((dst, weight) -> function.accept(new Edge<>(src, dst, weight)));
+	}
+}
@@ -0,0 +1,117 @@
+package fr.uge.graph;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import fr.uge.graph.algo.Traversals;
+
+// the read operations of the implementations that store only the edges, up to 100 000 nodes
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class SparseGraphBenchmark {
+	private static final int COUNT = 1_024;
+
+	@Param({ "NodeMapGraph", "CsrGraph", "MappedGraph" })
+	private String implementation;
+
+	@Param({ "1000", "10000", "100000" })
+	private int nodeCount;
+
+	private Graph<Integer> graph;
+	private final int[] sources = new int[COUNT];
+	private final int[] destinations = new int[COUNT];
+
+	@Setup
+	public void setup() {
+		graph = BenchmarkGraphs.sparse(implementation, nodeCount);
+		var random = new Random(0);
+		for(var i = 0; i < COUNT; i++) {
+			sources[i] = 1 + random.nextInt(nodeCount - 1);
+			destinations[i] = random.nextInt(nodeCount);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int getWeight() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			sum += graph.getWeight(sources[i], destinations[i]).orElse(0);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int neighborIterator_sparse() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			var iterator = graph.neighborIterator(sources[i]);
+			while(iterator.hasNext()) {
+				sum += iterator.nextInt();
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public int neighborIterator_dense() {
+		var sum = 0;
+		var iterator = graph.neighborIterator(0);
+		while(iterator.hasNext()) {
+			sum += iterator.nextInt();
+		}
+		return sum;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(COUNT)
+	public int neighbors_sum() {
+		var sum = 0;
+		for(var i = 0; i < COUNT; i++) {
+			sum += graph.neighbors(sources[i]).sum();
+		}
+		return sum;
+	}
+
+	// the same graph for all the implementations, to compare the cost of a traversal
+	@Benchmark
+	public int[] bfs() {
+		return Traversals.bfs(graph, 1);
+	}
+
+	@Benchmark
+	public void forEachEdge(Blackhole blackhole) {
+		for(var src = 0; src < nodeCount; src++) {
+			graph.forEachEdge(src, blackhole::consume);
+		}
+	}
+
+	@Benchmark
+	public long edges_sum() {
+		return graph.edges().mapToLong(Graph.Edge::weight).sum();
+	}
+
+	@Benchmark
+	public long edges_parallel_sum() {
+		return graph.edges().parallel().mapToLong(Graph.Edge::weight).sum();
+	}
+}
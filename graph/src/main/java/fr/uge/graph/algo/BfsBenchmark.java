@@ -0,0 +1,61 @@
+package fr.uge.graph.algo;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.uge.graph.Graph;
+
+// a bfs over around 1M edges on all the implementations, a matrix can not have enough nodes
+// for a sparse graph of that size, so the graph is 4096 nodes with 256 random edges per node
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BfsBenchmark {
+	private static final int NODE_COUNT = 4_096;
+	private static final int DEGREE = 256;
+
+	@Param({ "MatrixGraph", "NodeMapGraph", "CsrGraph" })
+	private String implementation;
+
+	private Graph<Integer> graph;
+
+	@Setup
+	public void setup() {
+		var random = new Random(0);
+		var edges = switch(implementation) {
+		case "MatrixGraph" -> Graph.<Integer>createMatrixGraph(NODE_COUNT);
+		case "NodeMapGraph", "CsrGraph" -> Graph.<Integer>createNodeMapGraph(NODE_COUNT);
+		default -> throw new AssertionError(implementation);
+		};
+		for(var src = 0; src < NODE_COUNT; src++) {
+			for(var i = 0; i < DEGREE; i++) {
+				edges.addEdge(src, random.nextInt(NODE_COUNT), 1 + random.nextInt(100));
+			}
+		}
+		graph = implementation.equals("CsrGraph") ? Graph.createCsrGraph(edges) : edges;
+		var edgeCount = graph.edges().count();
+		if(edgeCount < 1_000_000) {
+			throw new AssertionError("only " + edgeCount + " edges");
+		}
+	}
+
+	@Benchmark
+	public int[] bfs() {
+		return Traversals.bfs(graph, 0);
+	}
+}
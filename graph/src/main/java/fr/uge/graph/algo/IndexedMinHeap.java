@@ -0,0 +1,91 @@
+package fr.uge.graph.algo;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+// a binary min heap of nodes ordered by a double key, positions[node] is the index of
+// the node in the heap (or -1) so the key of a node already in the heap can be decreased in O(log n)
+final class IndexedMinHeap {
+	private final int[] heap;
+	private final int[] positions;
+	private final double[] keys;
+	private int size;
+
+	IndexedMinHeap(int nodeCount) {
+		heap = new int[nodeCount];
+		positions = new int[nodeCount];
+		keys = new double[nodeCount];
+		Arrays.fill(positions, -1);
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	// insert the node or decrease its key, the key must be lower than the current key
+	void insertOrDecrease(int node, double key) {
+		keys[node] = key;
+		var position = positions[node];
+		if(position == -1) {
+			position = size++;
+			heap[position] = node;
+			positions[node] = position;
+		}
+		siftUp(position);
+	}
+
+	int pollMin() {
+		if(size == 0) {
+			throw new NoSuchElementException();
+		}
+		var min = heap[0];
+		positions[min] = -1;
+		if(--size != 0) {
+			var last = heap[size];
+			heap[0] = last;
+			positions[last] = 0;
+			siftDown(0);
+		}
+		return min;
+	}
+
+	private void siftUp(int position) {
+		var node = heap[position];
+		var key = keys[node];
+		while(position > 0) {
+			var parentPosition = (position - 1) >>> 1;
+			var parent = heap[parentPosition];
+			if(keys[parent] <= key) {
+				break;
+			}
+			heap[position] = parent;
+			positions[parent] = position;
+			position = parentPosition;
+		}
+		heap[position] = node;
+		positions[node] = position;
+	}
+
+	private void siftDown(int position) {
+		var node = heap[position];
+		var key = keys[node];
+		for(;;) {
+			var child = 2 * position + 1;
+			if(child >= size) {
+				break;
+			}
+			if(child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+				child++;
+			}
+			var childNode = heap[child];
+			if(key <= keys[childNode]) {
+				break;
+			}
+			heap[position] = childNode;
+			positions[childNode] = position;
+			position = child;
+		}
+		heap[position] = node;
+		positions[node] = position;
+	}
+}
@@ -0,0 +1,236 @@
+package fr.uge.graph.algo;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import fr.uge.graph.Graph;
+
+/**
+ * The PageRank of the nodes of a graph, the weights of the edges are ignored.
+ * <p>
+ * The ranks are computed iteratively with two arrays of doubles, the ranks of the
+ * previous iteration are read while the ranks of the next iteration are written,
+ * then the arrays are swapped.
+ * The in-edges of the graph are first copied as compressed sparse rows so each node
+ * pulls the contributions of its predecessors: the nodes are partitioned between
+ * the threads and two threads never write the same cell.
+ * The rank of the nodes without out-edges is spread to all the nodes.
+ */
+public final class PageRank {
+	/**
+	 * The default damping factor.
+	 */
+	public static final double DEFAULT_DAMPING = 0.85;
+
+	private final double[] ranks;
+	private final int iterations;
+
+	private PageRank(double[] ranks, int iterations) {
+		this.ranks = ranks;
+		this.iterations = iterations;
+	}
+
+	// the graph reversed, the predecessors of dst are sources[offsets[dst]] to sources[offsets[dst + 1] - 1]
+	private record InEdges(int[] offsets, int[] sources, double[] inverseOutDegrees, int[] danglings) {
+		static InEdges of(Graph<?> graph) {
+			var nodeCount = graph.nodeCount();
+			var outDegrees = new int[nodeCount];
+			var offsets = new int[nodeCount + 1];
+			for(var src = 0; src < nodeCount; src++) {
+				var iterator = graph.neighborIterator(src);
+				while(iterator.hasNext()) {
+					offsets[iterator.nextInt() + 1]++;
+					outDegrees[src]++;
+				}
+			}
+			for(var node = 0; node < nodeCount; node++) {
+				offsets[node + 1] += offsets[node];
+			}
+			var sources = new int[offsets[nodeCount]];
+			var positions = Arrays.copyOf(offsets, nodeCount);
+			for(var src = 0; src < nodeCount; src++) {
+				var iterator = graph.neighborIterator(src);
+				while(iterator.hasNext()) {
+					sources[positions[iterator.nextInt()]++] = src;
+				}
+			}
+			var inverseOutDegrees = new double[nodeCount];
+			var danglingCount = 0;
+			for(var node = 0; node < nodeCount; node++) {
+				if(outDegrees[node] == 0) {
+					danglingCount++;
+				} else {
+					inverseOutDegrees[node] = 1.0 / outDegrees[node];
+				}
+			}
+			var danglings = new int[danglingCount];
+			var index = 0;
+			for(var node = 0; node < nodeCount; node++) {
+				if(outDegrees[node] == 0) {
+					danglings[index++] = node;
+				}
+			}
+			return new InEdges(offsets, sources, inverseOutDegrees, danglings);
+		}
+	}
+
+	// computes the next ranks of the nodes [from, to) and returns the sum of the absolute differences
+	@SuppressWarnings("serial")
+	private static final class IterationTask extends RecursiveTask<Double> {
+		private final InEdges inEdges;
+		private final double[] ranks;
+		private final double[] nextRanks;
+		private final double damping;
+		private final double base;
+		private final int threshold;
+		private final int from;
+		private final int to;
+
+		private IterationTask(InEdges inEdges, double[] ranks, double[] nextRanks, double damping, double base, int threshold, int from, int to) {
+			this.inEdges = inEdges;
+			this.ranks = ranks;
+			this.nextRanks = nextRanks;
+			this.damping = damping;
+			this.base = base;
+			this.threshold = threshold;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Double compute() {
+			if(to - from <= threshold) {
+				return computeRange();
+			}
+			var middle = (from + to) >>> 1;
+			var left = new IterationTask(inEdges, ranks, nextRanks, damping, base, threshold, from, middle);
+			left.fork();
+			var right = new IterationTask(inEdges, ranks, nextRanks, damping, base, threshold, middle, to).compute();
+			return left.join() + right;
+		}
+
+		private double computeRange() {
+			var offsets = inEdges.offsets;
+			var sources = inEdges.sources;
+			var inverseOutDegrees = inEdges.inverseOutDegrees;
+			var delta = 0.0;
+			for(var dst = from; dst < to; dst++) {
+				var sum = 0.0;
+				for(var i = offsets[dst]; i < offsets[dst + 1]; i++) {
+					var src = sources[i];
+					sum += ranks[src] * inverseOutDegrees[src];
+				}
+				var rank = base + damping * sum;
+				nextRanks[dst] = rank;
+				delta += Math.abs(rank - ranks[dst]);
+			}
+			return delta;
+		}
+	}
+
+	/**
+	 * Computes the PageRank of the nodes of a graph.
+	 * The iterations stop when the sum of the absolute differences between the ranks
+	 * of two iterations is less than {@code tolerance} or after {@code maxIterations} iterations.
+	 *
+	 * @param graph a graph.
+	 * @param damping the probability to follow an edge, between 0 and 1.
+	 * @param tolerance the convergence threshold.
+	 * @param maxIterations the maximum number of iterations.
+	 * @param parallelism the number of threads used, 1 computes the ranks in the current thread.
+	 * @return the ranks of the nodes.
+	 * @throws NullPointerException if graph is null.
+	 * @throws IllegalArgumentException if damping is not between 0 and 1, if tolerance is negative
+	 *         or if maxIterations or parallelism is not positive.
+	 */
+	public static PageRank compute(Graph<?> graph, double damping, double tolerance, int maxIterations, int parallelism) {
+		Objects.requireNonNull(graph);
+		if(!(damping >= 0 && damping <= 1)) {
+			throw new IllegalArgumentException("invalid damping " + damping);
+		}
+		if(!(tolerance >= 0)) {
+			throw new IllegalArgumentException("invalid tolerance " + tolerance);
+		}
+		if(maxIterations <= 0) {
+			throw new IllegalArgumentException("invalid max iterations " + maxIterations);
+		}
+		if(parallelism <= 0) {
+			throw new IllegalArgumentException("invalid parallelism " + parallelism);
+		}
+		var nodeCount = graph.nodeCount();
+		if(nodeCount == 0) {
+			return new PageRank(new double[0], 0);
+		}
+		var inEdges = InEdges.of(graph);
+		var ranks = new double[nodeCount];
+		Arrays.fill(ranks, 1.0 / nodeCount);
+		var nextRanks = new double[nodeCount];
+		// around 8 tasks per thread to balance the nodes with a lot of in-edges
+		var threshold = Math.max(1_024, nodeCount / (parallelism * 8));
+		try(var pool = parallelism == 1 ? null : new ForkJoinPool(parallelism)) {
+			var iteration = 0;
+			while(iteration < maxIterations) {
+				iteration++;
+				var dangling = 0.0;
+				for(var node: inEdges.danglings) {
+					dangling += ranks[node];
+				}
+				var base = (1 - damping + damping * dangling) / nodeCount;
+				var task = new IterationTask(inEdges, ranks, nextRanks, damping, base, threshold, 0, nodeCount);
+				var delta = pool == null ? task.computeRange() : pool.invoke(task);
+				var tmp = ranks;
+				ranks = nextRanks;
+				nextRanks = tmp;
+				if(delta < tolerance) {
+					break;
+				}
+			}
+			return new PageRank(ranks, iteration);
+		}
+	}
+
+	/**
+	 * Computes the PageRank of the nodes of a graph with a damping of {@value #DEFAULT_DAMPING},
+	 * using all the available processors.
+	 *
+	 * @param graph a graph.
+	 * @param tolerance the convergence threshold.
+	 * @return the ranks of the nodes.
+	 * @throws NullPointerException if graph is null.
+	 * @throws IllegalArgumentException if tolerance is negative.
+	 * @see #compute(Graph, double, double, int, int)
+	 */
+	public static PageRank compute(Graph<?> graph, double tolerance) {
+		return compute(graph, DEFAULT_DAMPING, tolerance, 100, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Returns the rank of a node, the sum of the ranks of all the nodes is 1.
+	 *
+	 * @param node a node.
+	 * @return the rank of the node.
+	 * @throws IndexOutOfBoundsException if node is not a valid node number.
+	 */
+	public double rank(int node) {
+		Objects.checkIndex(node, ranks.length);
+		return ranks[node];
+	}
+
+	/**
+	 * Returns the ranks of all the nodes.
+	 * @return a new array containing the rank of each node.
+	 */
+	public double[] ranks() {
+		return ranks.clone();
+	}
+
+	/**
+	 * Returns the number of iterations done.
+	 * @return the number of iterations done.
+	 */
+	public int iterations() {
+		return iterations;
+	}
+}
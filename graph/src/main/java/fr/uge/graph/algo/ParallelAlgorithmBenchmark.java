@@ -0,0 +1,63 @@
+package fr.uge.graph.algo;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.uge.graph.Graph;
+
+// a parallelism of 1 is the single thread baseline
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ParallelAlgorithmBenchmark {
+	private static final int DEGREE = 8;
+	private static final int SOURCE_COUNT = 64;
+
+	@Param({ "1000", "10000", "100000" })
+	private int nodeCount;
+
+	@Param({ "1", "4", "8" })
+	private int parallelism;
+
+	private Graph<Integer> graph;
+	private int[] sources;
+
+	@Setup
+	public void setup() {
+		var random = new Random(0);
+		var edges = Graph.<Integer>createNodeMapGraph(nodeCount);
+		for(var src = 0; src < nodeCount; src++) {
+			for(var i = 0; i < DEGREE; i++) {
+				edges.addEdge(src, random.nextInt(nodeCount), i);
+			}
+		}
+		graph = Graph.createCsrGraph(edges);
+		sources = IntStream.range(0, SOURCE_COUNT).map(i -> i * (nodeCount / SOURCE_COUNT)).toArray();
+	}
+
+	@Benchmark
+	public int[][] multiSourceBfs() {
+		return ParallelTraversals.distances(graph, sources, parallelism);
+	}
+
+	@Benchmark
+	public PageRank pageRank() {
+		return PageRank.compute(graph, PageRank.DEFAULT_DAMPING, 1e-9, 20, parallelism);
+	}
+}
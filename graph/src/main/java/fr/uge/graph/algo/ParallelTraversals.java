@@ -0,0 +1,96 @@
+package fr.uge.graph.algo;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import fr.uge.graph.Graph;
+
+/**
+ * Traversals from several source nodes executed in parallel by a {@link ForkJoinPool}.
+ * Each traversal is independent and only reads the graph, so the graph must not be
+ * modified during the computation.
+ */
+public final class ParallelTraversals {
+	private ParallelTraversals() {
+		throw new AssertionError();
+	}
+
+	// splits the range of sources in halves until there is only one traversal to do
+	@SuppressWarnings("serial")
+	private static final class DistancesTask extends RecursiveAction {
+		private final Graph<?> graph;
+		private final int[] sources;
+		private final int[][] distances;
+		private final int from;
+		private final int to;
+
+		private DistancesTask(Graph<?> graph, int[] sources, int[][] distances, int from, int to) {
+			this.graph = graph;
+			this.sources = sources;
+			this.distances = distances;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if(to - from == 1) {
+				distances[from] = Traversals.distances(graph, sources[from]);
+				return;
+			}
+			var middle = (from + to) >>> 1;
+			invokeAll(new DistancesTask(graph, sources, distances, from, middle),
+					new DistancesTask(graph, sources, distances, middle, to));
+		}
+	}
+
+	/**
+	 * Computes for each source node the number of edges of the shortest path
+	 * to all the nodes, like {@link Traversals#distances(Graph, int)},
+	 * using {@code parallelism} threads.
+	 *
+	 * @param graph a graph.
+	 * @param sources the source nodes.
+	 * @param parallelism the number of threads used.
+	 * @return an array of distances per source, {@code result[i][node]} is the distance
+	 *         from {@code sources[i]} to {@code node} or -1 if node is not reachable.
+	 * @throws NullPointerException if graph or sources is null.
+	 * @throws IndexOutOfBoundsException if one of the sources is not a valid node number.
+	 * @throws IllegalArgumentException if parallelism is not positive.
+	 */
+	public static int[][] distances(Graph<?> graph, int[] sources, int parallelism) {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(sources);
+		if(parallelism <= 0) {
+			throw new IllegalArgumentException("invalid parallelism " + parallelism);
+		}
+		for(var source: sources) {
+			Objects.checkIndex(source, graph.nodeCount());
+		}
+		var distances = new int[sources.length][];
+		if(sources.length == 0) {
+			return distances;
+		}
+		try(var pool = new ForkJoinPool(parallelism)) {
+			pool.invoke(new DistancesTask(graph, sources, distances, 0, sources.length));
+		}
+		return distances;
+	}
+
+	/**
+	 * Computes for each source node the number of edges of the shortest path
+	 * to all the nodes using all the available processors.
+	 *
+	 * @param graph a graph.
+	 * @param sources the source nodes.
+	 * @return an array of distances per source, {@code result[i][node]} is the distance
+	 *         from {@code sources[i]} to {@code node} or -1 if node is not reachable.
+	 * @throws NullPointerException if graph or sources is null.
+	 * @throws IndexOutOfBoundsException if one of the sources is not a valid node number.
+	 * @see #distances(Graph, int[], int)
+	 */
+	public static int[][] distances(Graph<?> graph, int[] sources) {
+		return distances(graph, sources, Runtime.getRuntime().availableProcessors());
+	}
+}
@@ -0,0 +1,157 @@
+package fr.uge.graph.algo;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ToDoubleFunction;
+
+import fr.uge.graph.DoubleGraph;
+import fr.uge.graph.Graph;
+
+/**
+ * The shortest paths from one source node to all the nodes of a graph,
+ * computed by the algorithm of Dijkstra.
+ * The distances and the predecessors are stored in arrays indexed by node.
+ */
+public final class ShortestPaths {
+	private final int source;
+	private final double[] distances;
+	private final int[] predecessors;
+
+	private ShortestPaths(int source, double[] distances, int[] predecessors) {
+		this.source = source;
+		this.distances = distances;
+		this.predecessors = predecessors;
+	}
+
+	// the working state of the algorithm, a node polled from the heap is never relaxed again
+	// because with non negative lengths its distance can not decrease
+	private static final class Search {
+		private final double[] distances;
+		private final int[] predecessors;
+		private final IndexedMinHeap heap;
+
+		private Search(int nodeCount) {
+			distances = new double[nodeCount];
+			Arrays.fill(distances, Double.POSITIVE_INFINITY);
+			predecessors = new int[nodeCount];
+			Arrays.fill(predecessors, -1);
+			heap = new IndexedMinHeap(nodeCount);
+		}
+
+		private void relax(int src, int dst, double length) {
+			if(!(length >= 0)) {
+				throw new IllegalArgumentException("invalid edge length " + length + " between " + src + " and " + dst);
+			}
+			var distance = distances[src] + length;
+			if(distance < distances[dst]) {
+				distances[dst] = distance;
+				predecessors[dst] = src;
+				heap.insertOrDecrease(dst, distance);
+			}
+		}
+	}
+
+	/**
+	 * Computes the shortest paths from {@code source} using the weights returned by {@code weightMapper}.
+	 *
+	 * @param graph a graph.
+	 * @param source the source node.
+	 * @param weightMapper a function that returns the length of an edge from its weight.
+	 * @param <T> the type of the weights.
+	 * @return the shortest paths from {@code source}.
+	 * @throws NullPointerException if graph or weightMapper is null.
+	 * @throws IndexOutOfBoundsException if source is not a valid node number.
+	 * @throws IllegalArgumentException if the length of an edge is negative or NaN.
+	 */
+	public static <T> ShortestPaths dijkstra(Graph<T> graph, int source, ToDoubleFunction<? super T> weightMapper) {
+		Objects.requireNonNull(graph);
+		Objects.requireNonNull(weightMapper);
+		Objects.checkIndex(source, graph.nodeCount());
+		return compute(graph.nodeCount(), source, (search, src) ->
+			graph.forEachEdge(src, edge -> search.relax(src, edge.dst(), weightMapper.applyAsDouble(edge.weight()))));
+	}
+
+	/**
+	 * Computes the shortest paths from {@code source}, the length of an edge is its weight.
+	 * The weights are read with {@link DoubleGraph#forEachEdgeAsDouble} so they are never boxed.
+	 *
+	 * @param graph a graph.
+	 * @param source the source node.
+	 * @return the shortest paths from {@code source}.
+	 * @throws NullPointerException if graph is null.
+	 * @throws IndexOutOfBoundsException if source is not a valid node number.
+	 * @throws IllegalArgumentException if the weight of an edge is negative or NaN.
+	 */
+	public static ShortestPaths dijkstra(DoubleGraph graph, int source) {
+		Objects.requireNonNull(graph);
+		Objects.checkIndex(source, graph.nodeCount());
+		return compute(graph.nodeCount(), source, (search, src) ->
+			graph.forEachEdgeAsDouble(src, (s, dst, weight) -> search.relax(src, dst, weight)));
+	}
+
+	private static ShortestPaths compute(int nodeCount, int source, ObjIntConsumer<Search> relaxAll) {
+		var search = new Search(nodeCount);
+		search.distances[source] = 0;
+		search.heap.insertOrDecrease(source, 0);
+		while(!search.heap.isEmpty()) {
+			relaxAll.accept(search, search.heap.pollMin());
+		}
+		return new ShortestPaths(source, search.distances, search.predecessors);
+	}
+
+	/**
+	 * Returns the source node of the paths.
+	 * @return the source node of the paths.
+	 */
+	public int source() {
+		return source;
+	}
+
+	/**
+	 * Returns the length of the shortest path from the source to {@code node}.
+	 *
+	 * @param node a node.
+	 * @return the length of the shortest path or {@link Double#POSITIVE_INFINITY} if node is not reachable.
+	 * @throws IndexOutOfBoundsException if node is not a valid node number.
+	 */
+	public double distance(int node) {
+		Objects.checkIndex(node, distances.length);
+		return distances[node];
+	}
+
+	/**
+	 * Returns the node before {@code node} on the shortest path from the source.
+	 *
+	 * @param node a node.
+	 * @return the predecessor of node or -1 if node is the source or is not reachable.
+	 * @throws IndexOutOfBoundsException if node is not a valid node number.
+	 */
+	public int predecessor(int node) {
+		Objects.checkIndex(node, predecessors.length);
+		return predecessors[node];
+	}
+
+	/**
+	 * Returns the nodes of the shortest path from the source to {@code node}.
+	 *
+	 * @param node a node.
+	 * @return the nodes of the path, the source first and {@code node} last, or an empty array if node is not reachable.
+	 * @throws IndexOutOfBoundsException if node is not a valid node number.
+	 */
+	public int[] path(int node) {
+		Objects.checkIndex(node, distances.length);
+		if(distances[node] == Double.POSITIVE_INFINITY) {
+			return new int[0];
+		}
+		var length = 1;
+		for(var current = node; current != source; current = predecessors[current]) {
+			length++;
+		}
+		var path = new int[length];
+		for(var current = node; length > 0; current = predecessors[current]) {
+			path[--length] = current;
+		}
+		return path;
+	}
+}
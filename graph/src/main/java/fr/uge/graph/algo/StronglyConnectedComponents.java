@@ -0,0 +1,127 @@
+package fr.uge.graph.algo;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+import fr.uge.graph.Graph;
+
+/**
+ * The strongly connected components of a graph, computed by the algorithm of Tarjan.
+ * The algorithm uses an explicit stack instead of recursion so it works
+ * on graphs with very long paths.
+ * The components are numbered from 0 to {@link #count()} - 1 in reverse topological order:
+ * if there is an edge from a component to another, the number of the first component
+ * is greater than the number of the second.
+ */
+public final class StronglyConnectedComponents {
+	private final int[] components;
+	private final int count;
+
+	private StronglyConnectedComponents(int[] components, int count) {
+		this.components = components;
+		this.count = count;
+	}
+
+	/**
+	 * Computes the strongly connected components of a graph.
+	 *
+	 * @param graph a graph.
+	 * @return the strongly connected components of the graph.
+	 * @throws NullPointerException if graph is null.
+	 */
+	public static StronglyConnectedComponents of(Graph<?> graph) {
+		Objects.requireNonNull(graph);
+		var nodeCount = graph.nodeCount();
+		var indexes = new int[nodeCount];
+		Arrays.fill(indexes, -1);
+		var lowLinks = new int[nodeCount];
+		var components = new int[nodeCount];
+		// the nodes not yet assigned to a component
+		var stack = new int[nodeCount];
+		var stackSize = 0;
+		var onStack = new BitSet(nodeCount);
+		// the explicit call stack, a node and the iterator on its remaining neighbors
+		var callNodes = new int[nodeCount];
+		var callIterators = new PrimitiveIterator.OfInt[nodeCount];
+		var depth = 0;
+		var index = 0;
+		var count = 0;
+		for(var root = 0; root < nodeCount; root++) {
+			if(indexes[root] != -1) {
+				continue;
+			}
+			indexes[root] = lowLinks[root] = index++;
+			stack[stackSize++] = root;
+			onStack.set(root);
+			callNodes[depth] = root;
+			callIterators[depth++] = graph.neighborIterator(root);
+			while(depth > 0) {
+				var node = callNodes[depth - 1];
+				var iterator = callIterators[depth - 1];
+				if(iterator.hasNext()) {
+					var next = iterator.nextInt();
+					if(indexes[next] == -1) {
+						indexes[next] = lowLinks[next] = index++;
+						stack[stackSize++] = next;
+						onStack.set(next);
+						callNodes[depth] = next;
+						callIterators[depth++] = graph.neighborIterator(next);
+					} else if(onStack.get(next)) {
+						lowLinks[node] = Math.min(lowLinks[node], indexes[next]);
+					}
+					continue;
+				}
+				callIterators[--depth] = null;
+				if(lowLinks[node] == indexes[node]) {
+					int member;
+					do {
+						member = stack[--stackSize];
+						onStack.clear(member);
+						components[member] = count;
+					} while(member != node);
+					count++;
+				}
+				if(depth > 0) {
+					var parent = callNodes[depth - 1];
+					lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[node]);
+				}
+			}
+		}
+		return new StronglyConnectedComponents(components, count);
+	}
+
+	/**
+	 * Returns the number of strongly connected components.
+	 * @return the number of strongly connected components.
+	 */
+	public int count() {
+		return count;
+	}
+
+	/**
+	 * Returns the number of the component containing {@code node}.
+	 *
+	 * @param node a node.
+	 * @return the number of the component of node, between 0 and {@link #count()} - 1.
+	 * @throws IndexOutOfBoundsException if node is not a valid node number.
+	 */
+	public int component(int node) {
+		Objects.checkIndex(node, components.length);
+		return components[node];
+	}
+
+	/**
+	 * Returns true if two nodes are in the same strongly connected component,
+	 * i.e. if there is a path from each node to the other.
+	 *
+	 * @param node1 a node.
+	 * @param node2 another node.
+	 * @return true if the two nodes are in the same component.
+	 * @throws IndexOutOfBoundsException if one of the nodes is not a valid node number.
+	 */
+	public boolean connected(int node1, int node2) {
+		return component(node1) == component(node2);
+	}
+}
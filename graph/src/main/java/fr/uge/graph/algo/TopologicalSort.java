@@ -0,0 +1,57 @@
+package fr.uge.graph.algo;
+
+import java.util.Objects;
+
+import fr.uge.graph.Graph;
+
+/**
+ * Topological sort of a directed acyclic graph.
+ */
+public final class TopologicalSort {
+	private TopologicalSort() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Returns all the nodes of the graph sorted so that for each edge, the source node
+	 * is before the destination node.
+	 * The nodes are sorted using the algorithm of Kahn, with an array of in-degrees.
+	 *
+	 * @param graph a graph.
+	 * @return the nodes in topological order.
+	 * @throws NullPointerException if graph is null.
+	 * @throws IllegalArgumentException if the graph contains a cycle.
+	 */
+	public static int[] sort(Graph<?> graph) {
+		Objects.requireNonNull(graph);
+		var nodeCount = graph.nodeCount();
+		var inDegrees = new int[nodeCount];
+		for(var src = 0; src < nodeCount; src++) {
+			var iterator = graph.neighborIterator(src);
+			while(iterator.hasNext()) {
+				inDegrees[iterator.nextInt()]++;
+			}
+		}
+		// the sorted nodes are also the queue of the nodes with no remaining incoming edge
+		var sorted = new int[nodeCount];
+		var tail = 0;
+		for(var node = 0; node < nodeCount; node++) {
+			if(inDegrees[node] == 0) {
+				sorted[tail++] = node;
+			}
+		}
+		for(var head = 0; head < tail; head++) {
+			var iterator = graph.neighborIterator(sorted[head]);
+			while(iterator.hasNext()) {
+				var node = iterator.nextInt();
+				if(--inDegrees[node] == 0) {
+					sorted[tail++] = node;
+				}
+			}
+		}
+		if(tail != nodeCount) {
+			throw new IllegalArgumentException("the graph contains a cycle");
+		}
+		return sorted;
+	}
+}
@@ -0,0 +1,74 @@
+package fr.uge.graph.algo;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.uge.graph.Graph;
+
+// the single thread algorithms on the sparse implementations,
+// the bfs benchmark of GraphBenchmark does the same traversal on the matrix implementations
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TraversalBenchmark {
+	private static final int DEGREE = 8;
+
+	@Param({ "NodeMapGraph", "CsrGraph" })
+	private String implementation;
+
+	@Param({ "1000", "10000", "100000" })
+	private int nodeCount;
+
+	private Graph<Integer> graph;
+
+	@Setup
+	public void setup() {
+		var random = new Random(0);
+		var edges = Graph.<Integer>createNodeMapGraph(nodeCount);
+		for(var src = 0; src < nodeCount; src++) {
+			for(var i = 0; i < DEGREE; i++) {
+				edges.addEdge(src, random.nextInt(nodeCount), 1 + random.nextInt(100));
+			}
+		}
+		graph = switch(implementation) {
+		case "NodeMapGraph" -> edges;
+		case "CsrGraph" -> Graph.createCsrGraph(edges);
+		default -> throw new AssertionError(implementation);
+		};
+	}
+
+	@Benchmark
+	public int[] bfs() {
+		return Traversals.bfs(graph, 0);
+	}
+
+	@Benchmark
+	public int[] dfs() {
+		return Traversals.dfs(graph, 0);
+	}
+
+	@Benchmark
+	public ShortestPaths dijkstra() {
+		return ShortestPaths.dijkstra(graph, 0, Integer::doubleValue);
+	}
+
+	@Benchmark
+	public StronglyConnectedComponents stronglyConnectedComponents() {
+		return StronglyConnectedComponents.of(graph);
+	}
+}
@@ -0,0 +1,122 @@
+package fr.uge.graph.algo;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+import fr.uge.graph.Graph;
+
+/**
+ * Breadth first and depth first traversals of a {@link Graph}.
+ * The working state of the traversals are arrays of ints and a {@link BitSet}
+ * indexed by node, so the memory used is proportional to the number of nodes.
+ */
+public final class Traversals {
+	private Traversals() {
+		throw new AssertionError();
+	}
+
+	/**
+	 * Returns the nodes reachable from {@code root} in breadth first order.
+	 *
+	 * @param graph a graph.
+	 * @param root the first node visited.
+	 * @return the nodes reachable from {@code root}, {@code root} included, in breadth first order.
+	 * @throws NullPointerException if graph is null.
+	 * @throws IndexOutOfBoundsException if root is not a valid node number.
+	 */
+	public static int[] bfs(Graph<?> graph, int root) {
+		Objects.requireNonNull(graph);
+		Objects.checkIndex(root, graph.nodeCount());
+		// the queue is the array of visited nodes, each node is enqueued at most once
+		var queue = new int[graph.nodeCount()];
+		var visited = new BitSet(graph.nodeCount());
+		var tail = 0;
+		queue[tail++] = root;
+		visited.set(root);
+		for(var head = 0; head < tail; head++) {
+			var iterator = graph.neighborIterator(queue[head]);
+			while(iterator.hasNext()) {
+				var node = iterator.nextInt();
+				if(!visited.get(node)) {
+					visited.set(node);
+					queue[tail++] = node;
+				}
+			}
+		}
+		return Arrays.copyOf(queue, tail);
+	}
+
+	/**
+	 * Returns the number of edges of the shortest path from {@code root} to each node.
+	 *
+	 * @param graph a graph.
+	 * @param root the source node.
+	 * @return an array indexed by node containing the distance from {@code root} or -1 if the node is not reachable.
+	 * @throws NullPointerException if graph is null.
+	 * @throws IndexOutOfBoundsException if root is not a valid node number.
+	 */
+	public static int[] distances(Graph<?> graph, int root) {
+		Objects.requireNonNull(graph);
+		Objects.checkIndex(root, graph.nodeCount());
+		var distances = new int[graph.nodeCount()];
+		Arrays.fill(distances, -1);
+		var queue = new int[graph.nodeCount()];
+		var tail = 0;
+		queue[tail++] = root;
+		distances[root] = 0;
+		for(var head = 0; head < tail; head++) {
+			var src = queue[head];
+			var iterator = graph.neighborIterator(src);
+			while(iterator.hasNext()) {
+				var node = iterator.nextInt();
+				if(distances[node] == -1) {
+					distances[node] = distances[src] + 1;
+					queue[tail++] = node;
+				}
+			}
+		}
+		return distances;
+	}
+
+	/**
+	 * Returns the nodes reachable from {@code root} in depth first pre-order,
+	 * the order of a recursive traversal that visits the neighbors in the order
+	 * of {@link Graph#neighborIterator(int)}.
+	 * The traversal uses an explicit stack so deep graphs can not overflow the call stack.
+	 *
+	 * @param graph a graph.
+	 * @param root the first node visited.
+	 * @return the nodes reachable from {@code root}, {@code root} included, in depth first order.
+	 * @throws NullPointerException if graph is null.
+	 * @throws IndexOutOfBoundsException if root is not a valid node number.
+	 */
+	public static int[] dfs(Graph<?> graph, int root) {
+		Objects.requireNonNull(graph);
+		Objects.checkIndex(root, graph.nodeCount());
+		var order = new int[graph.nodeCount()];
+		var count = 0;
+		var visited = new BitSet(graph.nodeCount());
+		// one iterator per node of the current path, the path is at most nodeCount long
+		var stack = new PrimitiveIterator.OfInt[graph.nodeCount()];
+		var depth = 0;
+		visited.set(root);
+		order[count++] = root;
+		stack[depth++] = graph.neighborIterator(root);
+		while(depth > 0) {
+			var iterator = stack[depth - 1];
+			if(!iterator.hasNext()) {
+				stack[--depth] = null;
+				continue;
+			}
+			var node = iterator.nextInt();
+			if(!visited.get(node)) {
+				visited.set(node);
+				order[count++] = node;
+				stack[depth++] = graph.neighborIterator(node);
+			}
+		}
+		return Arrays.copyOf(order, count);
+	}
+}
@@ -0,0 +1,1572 @@
+package fr.uge.graph;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.lang.reflect.AccessFlag;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+@SuppressWarnings("static-method")
+public class GraphTest {
+  @Nested
+  public class Q1 {
+    @Test
+    public void createGraphOfIntegers() {
+      MatrixGraph<Integer> graph = new MatrixGraph<Integer>(50);
+      assertEquals(50, graph.nodeCount());
+    }
+
+    @Test
+    public void createGraphOfStrings() {
+      Graph<String> graph = new MatrixGraph<String>(25);
+      assertEquals(25, graph.nodeCount());
+    }
+
+    @Test
+    public void createEmptyGraph() {
+      var graph = new MatrixGraph<>(0);
+      assertEquals(0, graph.nodeCount());
+    }
+
+    @Test
+    public void graphIsNotAnOpenInterface() {
+      assertAll(
+          () -> assertTrue(Graph.class.isInterface()),
+          () -> assertNotNull(Graph.class.getPermittedSubclasses())
+      );
+    }
+
+    @Test
+    public void invalidNodeCount() {
+      assertThrows(IllegalArgumentException.class, () -> new MatrixGraph<>(-17));
+    }
+  }
+
+
+  public interface GraphFactory {
+    <T> Graph<T> createGraph(int nodeCount);
+  }
+  static Stream<GraphFactory> graphFactoryProvider() {
+    return Stream.of(Graph::createMatrixGraph, Graph::createNodeMapGraph, Graph::createConcurrentMatrixGraph);
+  }
+  static Stream<Arguments> graphFactoryTwoProviders() {
+    return graphFactoryProvider().flatMap(p1 -> graphFactoryProvider().map(p2 -> Arguments.of(p1, p2)));
+  }
+
+  @Nested
+  public class Q2 {
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void createGraph(GraphFactory graphFactory) {
+      var graph = graphFactory.createGraph(50);
+      assertNotNull(graph);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void createGraphSignature(GraphFactory graphFactory) {
+      Graph<String> graph = graphFactory.<String>createGraph(50);
+      assertNotNull(graph);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void createEmptyGraph(GraphFactory graphFactory) {
+      var graph = graphFactory.createGraph(0);
+      assertNotNull(graph);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void invalidNodeCount(GraphFactory graphFactory) {
+      assertThrows(IllegalArgumentException.class, () -> graphFactory.createGraph(-17));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void implementationHidden(GraphFactory factory) {
+      var graph = factory.createGraph(10);
+      var accessFlags = graph.getClass().accessFlags();
+      assertFalse(accessFlags.contains(AccessFlag.PUBLIC));
+      assertTrue(accessFlags.contains(AccessFlag.FINAL));
+    }
+
+    @Test
+    public void implementationHidden2() throws NoSuchMethodException {
+      var method = Graph.class.getMethod("createMatrixGraph", int.class);
+      var returnType = method.getReturnType();
+      assertTrue(returnType.accessFlags().contains(AccessFlag.INTERFACE));
+    }
+  }
+
+
+  @Nested
+  public class Q3 {
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void getWeightEmpty(GraphFactory factory) {
+      var nodeCount = 20;
+      var graph = factory.createGraph(nodeCount);
+      for (var i = 0; i < nodeCount; i++) {
+        for (var j = 0; j < nodeCount; j++) {
+          assertTrue(graph.getWeight(i, j).isEmpty());
+        }
+      }
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void hasEdgeValid(GraphFactory factory) {
+      var graph = factory.createGraph(5);
+      assertAll(
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.getWeight(-1, 3)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.getWeight(2, -1)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.getWeight(5, 2)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.getWeight(3, 5))
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void addEdge(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(7);
+      graph.addEdge(3, 4, 2);
+      assertEquals(2, (int) graph.getWeight(3, 4).orElseThrow());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void addEdgeWithAString(GraphFactory factory) {
+      var graph = factory.<String>createGraph(10);
+      graph.addEdge(7, 8, "hello");
+      assertAll(
+          () -> assertEquals("hello", graph.getWeight(7, 8).orElseThrow()),
+          () -> assertFalse(graph.getWeight(4, 3).isPresent())
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void addEdgeNullWeight(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(7);
+      assertThrows(NullPointerException.class, () -> graph.addEdge(3, 4, null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void addEdgeTwice(GraphFactory factory) {
+      var graph = factory.<String>createGraph(7);
+      graph.addEdge(3, 4, "foo");
+      graph.addEdge(3, 4, "bar");
+      assertEquals("bar", graph.getWeight(3, 4).orElseThrow());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void addEdgeValid(GraphFactory factory) {
+      var graph = factory.createGraph(5);
+      assertAll(
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.addEdge(-1, 3, 7)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.addEdge(2, -1, 8)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.addEdge(5, 2, 9)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.addEdge(3, 5, 10)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void addEdgeALot(GraphFactory factory) {
+      var graph = factory.createGraph(17);
+      var random = RandomGeneratorFactory.getDefault().create(0);
+      for (var index = 0; index < 1_000; index++) {
+        var i = random.nextInt(17);
+        var j = random.nextInt(17);
+        var value = random.nextInt(10_000) - 5_000;
+        graph.addEdge(i, j, value);
+        assertEquals(value, (int) graph.getWeight(i, j).orElseThrow());
+      }
+    }
+  }
+
+
+  @Nested
+  public class Q4 {
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void disjointMergeAllIntegers(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(2);
+      graph.addEdge(1, 0, 2);
+      var graph2 = factory.<Integer>createGraph(2);
+      graph2.addEdge(0, 1, 42);
+      graph.mergeAll(graph2, Integer::sum);
+
+      assertAll(
+          () -> assertTrue(graph.getWeight(0, 0).isEmpty()),
+          () -> assertTrue(graph.getWeight(1, 1).isEmpty()),
+          () -> assertEquals(2, graph.getWeight(1, 0).orElseThrow()),
+          () -> assertEquals(42, graph.getWeight(0, 1).orElseThrow())
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void mergeAllIntegers(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(2);
+      graph.addEdge(0, 0, 17);
+      var graph2 = factory.<Integer>createGraph(2);
+      graph2.addEdge(0, 0, 7);
+      graph.mergeAll(graph2, Integer::sum);
+
+      assertAll(
+          () -> assertEquals(24, graph.getWeight(0, 0).orElseThrow()),
+          () -> assertTrue(graph.getWeight(0, 1).isEmpty()),
+          () -> assertTrue(graph.getWeight(1, 0).isEmpty()),
+          () -> assertTrue(graph.getWeight(1, 1).isEmpty())
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void mergeAllStrings(GraphFactory factory) {
+      var graph = factory.<String>createGraph(2);
+      graph.addEdge(0, 0, "a");
+      graph.addEdge(1, 0, "b");
+      var graph2 = factory.<String>createGraph(2);
+      graph2.addEdge(0, 0, "c");
+      graph2.addEdge(0, 1, "d");
+      graph.mergeAll(graph2, String::concat);
+
+      assertAll(
+          () -> assertEquals("ac", graph.getWeight(0, 0).orElseThrow()),
+          () -> assertEquals("b", graph.getWeight(1, 0).orElseThrow()),
+          () -> assertEquals("d", graph.getWeight(0, 1).orElseThrow()),
+          () -> assertTrue(graph.getWeight(1, 1).isEmpty())
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryTwoProviders")
+    public void mergeAllStrings(GraphFactory factory1, GraphFactory factory2) {
+      var graph = factory1.<String>createGraph(2);
+      graph.addEdge(0, 0, "a");
+      graph.addEdge(1, 0, "b");
+      var graph2 = factory2.<String>createGraph(2);
+      graph2.addEdge(0, 0, "c");
+      graph2.addEdge(0, 1, "d");
+      graph.mergeAll(graph2, String::concat);
+
+      assertAll(
+          () -> assertEquals("ac", graph.getWeight(0, 0).orElseThrow()),
+          () -> assertEquals("b", graph.getWeight(1, 0).orElseThrow()),
+          () -> assertEquals("d", graph.getWeight(0, 1).orElseThrow()),
+          () -> assertTrue(graph.getWeight(1, 1).isEmpty())
+      );
+    }
+
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void mergeAllALot(GraphFactory factory) {
+      var nodeCount = 1_000;
+      var graph1 = factory.<Integer>createGraph(nodeCount);
+      var graph2 = factory.<Integer>createGraph(nodeCount);
+
+      for(var j = 0; j < nodeCount; j++) {
+        for(var i = 0; i < nodeCount; i++) {
+          graph1.addEdge(i, j, i);
+          graph2.addEdge(i, j, j);
+        }
+      }
+
+      graph1.mergeAll(graph2, Integer::sum);
+
+      for(var j = 0; j < nodeCount; j++) {
+        for(var i = 0; i < nodeCount; i++) {
+          assertEquals(i + j, graph1.getWeight(i, j).orElseThrow());
+        }
+      }
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryTwoProviders")
+    public void mergeAllSignature(GraphFactory factory1, GraphFactory factory2) {
+      var graph = factory1.createGraph(0);
+      var graph2 = factory2.<String>createGraph(0);
+      graph.mergeAll(graph2, (o1, o2) -> fail());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void mergeAllPreconditions(GraphFactory factory) {
+      var graph1 = factory.<Integer>createGraph(10);
+      var graph2 = factory.<Integer>createGraph(3);
+      assertAll(
+          () -> assertThrows(IllegalArgumentException.class, () -> graph1.mergeAll(graph2, Integer::sum)),
+          () -> assertThrows(NullPointerException.class, () -> graph1.mergeAll(null, Integer::sum)),
+          () -> assertThrows(NullPointerException.class, () -> graph1.mergeAll(graph1, null))
+      );
+    }
+  }
+
+
+  @Nested
+  public class Q5 {
+    @Test
+    public void mergeAllIsNotAbstract() {
+      assertTrue(Arrays.stream(Graph.class.getMethods())
+          .filter(m -> m.getName().equals("mergeAll"))
+          .noneMatch(m -> m.accessFlags().contains(AccessFlag.ABSTRACT)));
+    }
+  }
+
+  @Nested
+  public class Q6 {
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsSimple(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(6);
+      graph.addEdge(1, 2, 222);
+      graph.addEdge(1, 5, 555);
+
+      var iterator = graph.neighborIterator(1);
+      assertEquals(2, (int) iterator.next());
+      assertEquals(5, (int) iterator.next());
+      assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsSignature(GraphFactory factory) {
+      Graph<Double> graph1 = factory.<Double>createGraph(6);
+      graph1.addEdge(1, 2, 3.0);
+      Iterator<Integer> iterator1 = graph1.neighborIterator(1);
+      assertEquals(2, iterator1.next());
+
+      Graph<String> graph2 = factory.<String>createGraph(6);
+      graph2.addEdge(1, 3, "graph");
+      Iterator<Integer> iterator2 = graph2.neighborIterator(1);
+      assertEquals(3, iterator2.next());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsEmptyHasNext(GraphFactory factory) {
+      var graph = factory.createGraph(6);
+      var iterator = graph.neighborIterator(0);
+      assertFalse(iterator.hasNext());
+      assertFalse(iterator.hasNext());
+      assertFalse(iterator.hasNext());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsOutOfRange(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(6);
+      assertAll(
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.neighborIterator(10)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.neighborIterator(-2))
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsEmptyNext(GraphFactory factory) {
+      var graph = factory.createGraph(6);
+      assertThrows(NoSuchElementException.class, () -> graph.neighborIterator(0).next());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsOneEdge(GraphFactory factory) {
+      var graph = factory.<String>createGraph(6);
+      graph.addEdge(1, 2, "hello");
+      var iterator = graph.neighborIterator(1);
+      assertTrue(iterator.hasNext());
+      assertEquals(2, (int) iterator.next());
+      assertFalse(iterator.hasNext());
+      assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsNoHasNext(GraphFactory factory) {
+      var graph = factory.createGraph(10);
+      for (int i = 0; i < 10; i++) {
+        graph.addEdge(5, i, -1);
+      }
+
+      var result = new HashSet<Integer>();
+      var expected = new HashSet<Integer>();
+      var iterator = graph.neighborIterator(5);
+      for (int i = 0; i < 10; i++) {
+        expected.add(i);
+        result.add(iterator.next());
+      }
+      assertEquals(expected, result);
+
+      assertFalse(iterator.hasNext());
+      assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsNonDestructive(GraphFactory factory) {
+      var graph = factory.createGraph(12);
+      for (int i = 0; i < 12; i++) {
+        graph.addEdge(5, i, 67);
+      }
+      assertTimeout(Duration.ofMillis(1_000), () -> {
+        var neighbors = graph.neighborIterator(5);
+        while (neighbors.hasNext()) {
+          assertNotNull(neighbors.next());
+        }
+      });
+      for (int i = 0; i < 12; i++) {
+        assertEquals(67, (int) graph.getWeight(5, i).orElseThrow());
+      }
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborSeveralHasNext(GraphFactory factory) {
+      var graph = factory.createGraph(14);
+      graph.addEdge(3, 7, 2);
+      graph.addEdge(3, 5, 3);
+      graph.addEdge(7, 3, 4);
+
+      assertTimeout(Duration.ofMillis(1_000), () -> {
+        var neighbors = graph.neighborIterator(3);
+        assertTrue(neighbors.hasNext());
+        var node1 = neighbors.next();
+        for (var i = 0; i < 5; i++) {
+          assertTrue(neighbors.hasNext());
+        }
+        var node2 = neighbors.next();
+        assertFalse(neighbors.hasNext());
+        assertTrue((node1 == 5 && node2 == 7) || (node1 == 7 && node2 == 5));
+      });
+    }
+
+    @Test
+    public void neighborImplementationIsLazy() {
+      var graph = new MatrixGraph<>(3);
+      var iterator = graph.neighborIterator(0);
+      var packageName = iterator.getClass().getPackageName();
+      assertAll(
+          () -> assertNotEquals("java.util", packageName),
+          () -> assertNotEquals("java.util.stream", packageName)
+      );
+    }
+  }
+
+
+  @Nested
+  public class Q7 {
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void iteratorRemove(GraphFactory factory) {
+      var graph = factory.createGraph(11);
+      graph.addEdge(3, 10, 13);
+      var neighbors = graph.neighborIterator(3);
+      assertEquals(10, (int) neighbors.next());
+      neighbors.remove();
+      assertFalse(graph.getWeight(3, 10).isPresent());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void iteratorRemoveInvalid(GraphFactory factory) {
+      var graph = factory.createGraph(21);
+      graph.addEdge(20, 19, 20);
+      var neighbors = graph.neighborIterator(20);
+      assertThrows(IllegalStateException.class, neighbors::remove);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void iteratorRemoveTwiceInvalid(GraphFactory factory) {
+      var graph = factory.createGraph(21);
+      graph.addEdge(20, 19, 20);
+      var neighbors = graph.neighborIterator(20);
+      neighbors.next();
+      neighbors.remove();
+      assertFalse(graph.getWeight(20, 19).isPresent());
+      assertThrows(IllegalStateException.class, neighbors::remove);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void iteratorRemoveALot(GraphFactory factory) {
+      var graph = factory.createGraph(50);
+      for (var i = 0; i < 50; i++) {
+        for (var j = 0; j < i; j++) {
+          graph.addEdge(i, j, i + j);
+        }
+      }
+
+      for (int i = 0; i < 50; i++) {
+        var neighbors = graph.neighborIterator(i);
+        for (var j = 0; j < i; j++) {
+          assertTrue(neighbors.hasNext());
+          neighbors.next();
+          neighbors.remove();
+        }
+        assertFalse(neighbors.hasNext());
+      }
+
+      for (var i = 0; i < 50; i++) {
+        for (var j = 0; j < 50; j++) {
+          assertTrue(graph.getWeight(i, j).isEmpty());
+        }
+      }
+    }
+  }
+
+
+  @Nested
+  public class Q8 {
+    @Test
+    public void edgeOfInteger() {
+      Graph.Edge<Integer> edge = new Graph.Edge<Integer>(1, 2, 42);
+      assertAll(
+          () -> assertEquals(1, edge.src()),
+          () -> assertEquals(2, edge.dst()),
+          () -> assertEquals(42, edge.weight())
+      );
+    }
+
+    @Test
+    public void edgeOfString() {
+      Graph.Edge<String> edge = new Graph.Edge<String>(7, 4, "foo");
+      assertAll(
+          () -> assertEquals(7, edge.src()),
+          () -> assertEquals(4, edge.dst()),
+          () -> assertEquals("foo", edge.weight())
+      );
+    }
+
+    @Test
+    public void edgePreconditions() {
+      assertAll(
+          () -> assertThrows(NullPointerException.class, () -> new Graph.Edge<>(1, 2, null)),
+          () -> assertThrows(IllegalArgumentException.class, () -> new Graph.Edge<>(-1, 2, 10)),
+          () -> assertThrows(IllegalArgumentException.class, () -> new Graph.Edge<>(1, -2, 10))
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void forEachEdgeStrings(GraphFactory factory) {
+      var graph = factory.<String>createGraph(12);
+      graph.addEdge(2, 5, "foo");
+      graph.addEdge(2, 9, "bar");
+
+      var edges = new ArrayList<Graph.Edge<String>>();
+      graph.forEachEdge(2, edges::add);
+      assertEquals(List.of(
+          new Graph.Edge<>(2, 5, "foo"),
+          new Graph.Edge<>(2, 9, "bar")
+      ), edges);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void forEachEdgeIntegers(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(12);
+      graph.addEdge(4, 1, 2);
+      graph.addEdge(4, 7, 3);
+      graph.addEdge(4, 10, 4);
+
+      var edges = new ArrayList<Graph.Edge<Integer>>();
+      graph.forEachEdge(4, edges::add);
+      assertEquals(List.of(
+          new Graph.Edge<>(4, 1, 2),
+          new Graph.Edge<>(4, 7, 3),
+          new Graph.Edge<>(4, 10, 4)
+      ), edges);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void forEachEdgeEmpty(GraphFactory factory) {
+      var graph = factory.createGraph(3);
+      graph.forEachEdge(0, edge -> fail());
+    }
+
+    @Test
+    public void forEachEdgeIsNotAbstract() {
+      assertTrue(Arrays.stream(Graph.class.getMethods())
+          .filter(m -> m.getName().equals("forEachEdge"))
+          .noneMatch(m -> m.accessFlags().contains(AccessFlag.ABSTRACT)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void forEachEdgeSignature(GraphFactory factory) {
+      var graph = factory.createGraph(1);
+      graph.forEachEdge(0, (Record edge) -> fail());
+      graph.forEachEdge(0, (Object edge) -> fail());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void forEachEdgePreconditions(GraphFactory factory) {
+      var graph = factory.createGraph(1);
+      assertAll(
+          () -> assertThrows(NullPointerException.class, () -> graph.forEachEdge(0, null)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.forEachEdge(-1, edge -> {})),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.forEachEdge(1, edge -> {}))
+      );
+    }
+  }
+
+
+  @Nested
+  public class Q9 {
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void edgesIntegers(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(2);
+      graph.addEdge(0, 0, 0);
+      graph.addEdge(1, 0, 10);
+      graph.addEdge(1, 1, 11);
+
+      var set = graph.edges().collect(toSet());
+      assertEquals(Set.of(
+          new Graph.Edge<>(0, 0, 0),
+          new Graph.Edge<>(1, 0, 10),
+          new Graph.Edge<>(1, 1, 11)
+      ), set);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void edgesString(GraphFactory factory) {
+      var graph = factory.<String>createGraph(4);
+      graph.addEdge(0, 0, "foo");
+      graph.addEdge(1, 3, "bar");
+      graph.addEdge(2, 2, "whizz");
+      graph.addEdge(3, 1, "baz");
+
+      var set = Set.copyOf(graph.edges().toList());
+      assertEquals(Set.of(
+          new Graph.Edge<>(0, 0, "foo"),
+          new Graph.Edge<>(1, 3, "bar"),
+          new Graph.Edge<>(2, 2, "whizz"),
+          new Graph.Edge<>(3, 1, "baz")
+      ), set);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void edgesEmpty(GraphFactory factory) {
+      var graph = factory.createGraph(8);
+      assertTrue(graph.edges().findFirst().isEmpty());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void edgesALot(GraphFactory factory) {
+      var graph = factory.createGraph(1_000);
+      for(var j = 0; j < graph.nodeCount(); j++) {
+        for(var i = 0; i < graph.nodeCount(); i++) {
+          graph.addEdge(i, j, i + j);
+        }
+      }
+
+      var edges = graph.edges().toList();
+      assertEquals(1_000_000, edges.size());
+      for(var edge: edges) {
+        assertEquals(edge.src() + edge.dst(), edge.weight());
+      }
+    }
+
+    @Test
+    public void edgesIsNotAbstract() {
+      assertTrue(Arrays.stream(Graph.class.getMethods())
+          .filter(m -> m.getName().equals("edges"))
+          .noneMatch(m -> m.accessFlags().contains(AccessFlag.ABSTRACT)));
+    }
+  }
+
+
+  @Nested
+  public class NodeMap {
+    @Test
+    public void createALargeSparseGraph() {
+      var graph = Graph.<Integer>createNodeMapGraph(200_000);
+      for(var i = 0; i < graph.nodeCount(); i++) {
+        graph.addEdge(i, (i + 1) % graph.nodeCount(), i);
+      }
+      assertEquals(200_000, graph.nodeCount());
+      assertEquals(199_999, graph.getWeight(199_999, 0).orElseThrow());
+      var neighbors = graph.neighborIterator(42);
+      assertEquals(43, neighbors.next());
+      assertFalse(neighbors.hasNext());
+    }
+
+    @Test
+    public void forEachEdgeOnlyVisitsTheNeighbors() {
+      var graph = Graph.<String>createNodeMapGraph(1_000);
+      graph.addEdge(3, 999, "foo");
+      graph.addEdge(3, 0, "bar");
+      var edges = new HashSet<Graph.Edge<String>>();
+      graph.forEachEdge(3, edges::add);
+      assertEquals(Set.of(new Graph.Edge<>(3, 999, "foo"), new Graph.Edge<>(3, 0, "bar")), edges);
+    }
+  }
+
+
+  @Nested
+  public class Csr {
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void copyAGraph(GraphFactory factory) {
+      var graph = factory.<String>createGraph(5);
+      graph.addEdge(0, 4, "foo");
+      graph.addEdge(0, 1, "bar");
+      graph.addEdge(3, 3, "baz");
+      var csr = Graph.createCsrGraph(graph);
+      assertEquals(5, csr.nodeCount());
+      assertEquals("foo", csr.getWeight(0, 4).orElseThrow());
+      assertEquals("bar", csr.getWeight(0, 1).orElseThrow());
+      assertEquals("baz", csr.getWeight(3, 3).orElseThrow());
+      assertTrue(csr.getWeight(0, 0).isEmpty());
+      assertTrue(csr.getWeight(4, 4).isEmpty());
+      assertArrayEquals(new int[] { 1, 4 }, csr.neighbors(0).toArray());
+      var edges = new HashSet<Graph.Edge<String>>();
+      csr.forEachEdge(3, edges::add);
+      assertEquals(Set.of(new Graph.Edge<>(3, 3, "baz")), edges);
+    }
+
+    @Test
+    public void copyALargeGraph() {
+      var graph = Graph.<Integer>createMatrixGraph(300);
+      for(var i = 0; i < graph.nodeCount(); i++) {
+        for(var j = 0; j < graph.nodeCount(); j += 1 + i % 7) {
+          graph.addEdge(i, j, i * j);
+        }
+      }
+      var csr = Graph.createCsrGraph(graph);
+      for(var i = 0; i < graph.nodeCount(); i++) {
+        for(var j = 0; j < graph.nodeCount(); j++) {
+          assertEquals(graph.getWeight(i, j), csr.getWeight(i, j));
+        }
+      }
+    }
+
+    @Test
+    public void isImmutable() {
+      var graph = Graph.<String>createMatrixGraph(2);
+      graph.addEdge(0, 1, "foo");
+      var csr = Graph.createCsrGraph(graph);
+      var neighbors = csr.neighborIterator(0);
+      neighbors.next();
+      assertAll(
+          () -> assertThrows(UnsupportedOperationException.class, () -> csr.addEdge(0, 0, "bar")),
+          () -> assertThrows(UnsupportedOperationException.class, neighbors::remove)
+      );
+    }
+
+    @Test
+    public void preconditions() {
+      var csr = Graph.createCsrGraph(Graph.createMatrixGraph(3));
+      assertAll(
+          () -> assertThrows(NullPointerException.class, () -> Graph.createCsrGraph(null)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> csr.getWeight(3, 0)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> csr.getWeight(0, -1)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> csr.neighborIterator(3))
+      );
+    }
+  }
+
+
+  @Nested
+  public class PrimitiveWeights {
+    @Test
+    public void doubleGraph() {
+      var graph = DoubleGraph.createMatrixGraph(70);
+      graph.addEdge(3, 65, 1.5);
+      graph.addEdge(3, 2, -0.0);
+      graph.addEdge(69, 69, Double.valueOf(4.0));
+      assertEquals(1.5, graph.getWeightAsDouble(3, 65, Double.NaN));
+      assertEquals(-0.0, graph.getWeightAsDouble(3, 2, Double.NaN));
+      assertEquals(Double.NaN, graph.getWeightAsDouble(3, 3, Double.NaN));
+      assertEquals(4.0, graph.getWeight(69, 69).orElseThrow());
+      assertTrue(graph.getWeight(0, 0).isEmpty());
+      var edges = new ArrayList<Graph.Edge<Double>>();
+      graph.forEachEdgeAsDouble(3, (src, dst, weight) -> edges.add(new Graph.Edge<>(src, dst, weight)));
+      assertEquals(List.of(new Graph.Edge<>(3, 2, -0.0), new Graph.Edge<>(3, 65, 1.5)), edges);
+    }
+
+    @Test
+    public void intGraph() {
+      var graph = IntGraph.createMatrixGraph(130);
+      graph.addEdge(0, 0, 0);
+      graph.addEdge(0, 129, 7);
+      graph.addEdge(0, 64, 8);
+      assertEquals(0, graph.getWeightAsInt(0, 0, -1));
+      assertEquals(-1, graph.getWeightAsInt(0, 1, -1));
+      assertArrayEquals(new int[] { 0, 64, 129 }, graph.neighbors(0).toArray());
+      var sum = new int[1];
+      graph.forEachEdgeAsInt(0, (src, dst, weight) -> sum[0] += weight);
+      assertEquals(15, sum[0]);
+    }
+
+    @Test
+    public void removeAnEdgeWithTheIterator() {
+      var graph = IntGraph.createMatrixGraph(3);
+      graph.addEdge(1, 2, 12);
+      var iterator = graph.neighborIterator(1);
+      assertThrows(IllegalStateException.class, iterator::remove);
+      iterator.next();
+      iterator.remove();
+      assertTrue(graph.getWeight(1, 2).isEmpty());
+      assertEquals(-1, graph.getWeightAsInt(1, 2, -1));
+    }
+
+    @Test
+    public void mergeAllWithABoxedGraph() {
+      var graph = DoubleGraph.createMatrixGraph(2);
+      graph.addEdge(0, 1, 1.0);
+      var other = Graph.<Double>createMatrixGraph(2);
+      other.addEdge(0, 1, 2.0);
+      other.addEdge(1, 0, 3.0);
+      graph.mergeAll(other, Double::sum);
+      assertEquals(3.0, graph.getWeightAsDouble(0, 1, 0));
+      assertEquals(3.0, graph.getWeightAsDouble(1, 0, 0));
+    }
+
+    @Test
+    public void preconditions() {
+      var graph = DoubleGraph.createMatrixGraph(2);
+      assertAll(
+          () -> assertThrows(IllegalArgumentException.class, () -> DoubleGraph.createMatrixGraph(-1)),
+          () -> assertThrows(IllegalArgumentException.class, () -> IntGraph.createMatrixGraph(100_000)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.addEdge(2, 0, 1.0)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.getWeightAsDouble(0, -1, 1.0)),
+          () -> assertThrows(NullPointerException.class, () -> graph.addEdge(0, 0, (Double) null)),
+          () -> assertThrows(NullPointerException.class, () -> graph.forEachEdgeAsDouble(0, null))
+      );
+    }
+  }
+
+  @Nested
+  public class Neighbors {
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsStream(GraphFactory factory) {
+      var graph = factory.<String>createGraph(100);
+      graph.addEdge(7, 99, "a");
+      graph.addEdge(7, 0, "b");
+      graph.addEdge(7, 64, "c");
+      graph.addEdge(8, 1, "d");
+      assertEquals(Set.of(0, 64, 99), graph.neighbors(7).boxed().collect(toSet()));
+      assertEquals(0, graph.neighbors(6).count());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborIteratorNextInt(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(200);
+      for(var i = 0; i < 200; i += 3) {
+        graph.addEdge(5, i, i);
+      }
+      var iterator = graph.neighborIterator(5);
+      var sum = 0;
+      while(iterator.hasNext()) {
+        sum += iterator.nextInt();
+      }
+      assertEquals(graph.neighbors(5).sum(), sum);
+      assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void neighborsAfterRemove(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(70);
+      graph.addEdge(1, 3, 3);
+      graph.addEdge(1, 66, 66);
+      var iterator = graph.neighborIterator(1);
+      while(iterator.hasNext()) {
+        if(iterator.nextInt() == 66) {
+          iterator.remove();
+        }
+      }
+      assertArrayEquals(new int[] { 3 }, graph.neighbors(1).toArray());
+      assertTrue(graph.getWeight(1, 66).isEmpty());
+    }
+
+    @Test
+    public void neighborsPreconditions() {
+      var graph = Graph.createMatrixGraph(3);
+      assertAll(
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.neighbors(-1)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.neighbors(3))
+      );
+    }
+  }
+
+  @Nested
+  public class ParallelEdges {
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void edgesParallelSum(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(500);
+      for(var i = 0; i < graph.nodeCount(); i++) {
+        for(var j = i % 3; j < graph.nodeCount(); j += 1 + i % 5) {
+          graph.addEdge(i, j, i ^ j);
+        }
+      }
+      var sequential = graph.edges().mapToLong(Graph.Edge::weight).sum();
+      var parallel = graph.edges().parallel().mapToLong(Graph.Edge::weight).sum();
+      assertEquals(sequential, parallel);
+      assertEquals(graph.edges().count(), graph.edges().parallel().count());
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void edgesParallelKeepsOrder(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(300);
+      for(var i = 0; i < graph.nodeCount(); i += 2) {
+        graph.addEdge(i, graph.nodeCount() - 1 - i, i);
+      }
+      var sources = graph.edges().parallel().mapToInt(Graph.Edge::src).toArray();
+      assertEquals(150, sources.length);
+      for(var i = 0; i < sources.length; i++) {
+        assertEquals(2 * i, sources[i]);
+      }
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void edgesSplitAfterAdvance(GraphFactory factory) {
+      var graph = factory.<String>createGraph(10);
+      for(var i = 0; i < graph.nodeCount(); i++) {
+        graph.addEdge(i, i, "" + i);
+        graph.addEdge(i, 9 - i, "" + i);
+      }
+      var spliterator = graph.edges().spliterator();
+      var edges = new ArrayList<Graph.Edge<String>>();
+      assertTrue(spliterator.tryAdvance(edges::add));
+      var prefix = spliterator.trySplit();
+      assertNotNull(prefix);
+      prefix.forEachRemaining(edges::add);
+      spliterator.forEachRemaining(edges::add);
+      assertEquals(graph.edges().toList(), edges);
+    }
+
+    @Test
+    public void edgesSplitOneRow() {
+      var graph = Graph.<Integer>createMatrixGraph(1);
+      graph.addEdge(0, 0, 0);
+      var spliterator = graph.edges().spliterator();
+      assertNull(spliterator.trySplit());
+      assertEquals(1, graph.edges().parallel().count());
+    }
+
+    @Test
+    public void edgesEmptyGraph() {
+      var graph = Graph.<Integer>createMatrixGraph(0);
+      assertEquals(0, graph.edges().parallel().count());
+      assertNull(graph.edges().spliterator().trySplit());
+    }
+  }
+
+  @Nested
+  public class ParallelMerge {
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryTwoProviders")
+    public void mergeAllParallelSameAsMergeAll(GraphFactory factory1, GraphFactory factory2) {
+      var nodeCount = 300;
+      var expected = factory1.<Integer>createGraph(nodeCount);
+      var graph = factory1.<Integer>createGraph(nodeCount);
+      var graph2 = factory2.<Integer>createGraph(nodeCount);
+      for(var i = 0; i < nodeCount; i++) {
+        for(var j = i % 4; j < nodeCount; j += 3) {
+          expected.addEdge(i, j, i);
+          graph.addEdge(i, j, i);
+        }
+        for(var j = i % 5; j < nodeCount; j += 7) {
+          graph2.addEdge(i, j, j);
+        }
+      }
+      expected.mergeAll(graph2, Integer::sum);
+      graph.mergeAllParallel(graph2, Integer::sum);
+      for(var i = 0; i < nodeCount; i++) {
+        for(var j = 0; j < nodeCount; j++) {
+          assertEquals(expected.getWeight(i, j), graph.getWeight(i, j));
+        }
+      }
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryTwoProviders")
+    public void mergeAllOnlyMergesCommonEdges(GraphFactory factory1, GraphFactory factory2) {
+      var graph = factory1.<String>createGraph(100);
+      var graph2 = factory2.<String>createGraph(100);
+      graph.addEdge(3, 4, "a");
+      graph.addEdge(5, 6, "b");
+      graph2.addEdge(3, 4, "c");
+      graph2.addEdge(99, 0, "d");
+      var count = new int[1];
+      graph.mergeAll(graph2, (s1, s2) -> {
+        count[0]++;
+        return s1 + s2;
+      });
+      assertAll(
+          () -> assertEquals(1, count[0]),
+          () -> assertEquals("ac", graph.getWeight(3, 4).orElseThrow()),
+          () -> assertEquals("b", graph.getWeight(5, 6).orElseThrow()),
+          () -> assertEquals("d", graph.getWeight(99, 0).orElseThrow())
+      );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void mergeAllParallelALot(GraphFactory factory) {
+      var nodeCount = 1_000;
+      var graph1 = factory.<Integer>createGraph(nodeCount);
+      var graph2 = factory.<Integer>createGraph(nodeCount);
+      for(var i = 0; i < nodeCount; i++) {
+        for(var j = 0; j < nodeCount; j++) {
+          graph1.addEdge(i, j, i);
+          graph2.addEdge(i, j, j);
+        }
+      }
+      graph1.mergeAllParallel(graph2, Integer::sum);
+      for(var i = 0; i < nodeCount; i++) {
+        for(var j = 0; j < nodeCount; j++) {
+          assertEquals(i + j, graph1.getWeight(i, j).orElseThrow());
+        }
+      }
+    }
+
+    @Test
+    public void mergeAllNullMerge() {
+      var graph = Graph.<Integer>createMatrixGraph(2);
+      var graph2 = Graph.<Integer>createMatrixGraph(2);
+      graph.addEdge(0, 1, 1);
+      graph2.addEdge(0, 1, 2);
+      assertThrows(NullPointerException.class, () -> graph.mergeAll(graph2, (a, b) -> null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void mergeAllParallelPreconditions(GraphFactory factory) {
+      var graph1 = factory.<Integer>createGraph(5);
+      var graph2 = factory.<Integer>createGraph(7);
+      assertAll(
+          () -> assertThrows(IllegalArgumentException.class, () -> graph1.mergeAllParallel(graph2, Integer::sum)),
+          () -> assertThrows(NullPointerException.class, () -> graph1.mergeAllParallel(null, Integer::sum)),
+          () -> assertThrows(NullPointerException.class, () -> graph1.mergeAllParallel(graph1, null))
+      );
+    }
+  }
+
+  @Nested
+  public class MappedFile {
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @MethodSource("fr.uge.graph.GraphTest#graphFactoryProvider")
+    public void writeAndMap(GraphFactory factory) throws IOException {
+      var graph = factory.<Integer>createGraph(100);
+      for(var i = 0; i < 100; i++) {
+        graph.addEdge(i, (i * 7) % 100, i);
+        graph.addEdge(i, (i * 13) % 100, -i);
+      }
+      var path = directory.resolve("graph.bin");
+      GraphFile.write(graph, path, GraphFile.Format.INTEGER);
+      var mapped = GraphFile.map(path, GraphFile.Format.INTEGER);
+      assertEquals(100, mapped.nodeCount());
+      assertEquals(graph.edges().collect(toSet()), mapped.edges().collect(toSet()));
+      for(var i = 0; i < 100; i++) {
+        for(var j = 0; j < 100; j++) {
+          assertEquals(graph.getWeight(i, j), mapped.getWeight(i, j));
+        }
+        assertEquals(graph.neighbors(i).sorted().boxed().toList(), mapped.neighbors(i).boxed().toList());
+      }
+    }
+
+    @Test
+    public void writeAndMapLongs() throws IOException {
+      var graph = Graph.<Long>createNodeMapGraph(3);
+      graph.addEdge(0, 2, Long.MAX_VALUE);
+      graph.addEdge(2, 0, Long.MIN_VALUE);
+      var path = directory.resolve("graph.bin");
+      GraphFile.write(graph, path, GraphFile.Format.LONG);
+      var mapped = GraphFile.map(path, GraphFile.Format.LONG);
+      assertEquals(Long.MAX_VALUE, mapped.getWeight(0, 2).orElseThrow());
+      assertEquals(Long.MIN_VALUE, mapped.getWeight(2, 0).orElseThrow());
+      assertTrue(mapped.getWeight(0, 0).isEmpty());
+    }
+
+    @Test
+    public void writeAndMapDoubles() throws IOException {
+      var graph = DoubleGraph.createMatrixGraph(70);
+      graph.addEdge(1, 69, 0.5);
+      graph.addEdge(1, 3, -0.0);
+      graph.addEdge(68, 68, Double.NaN);
+      var path = directory.resolve("graph.bin");
+      GraphFile.write(graph, path, GraphFile.Format.DOUBLE);
+      var mapped = GraphFile.map(path, GraphFile.Format.DOUBLE);
+      assertEquals(Set.copyOf(graph.edges().toList()), Set.copyOf(mapped.edges().toList()));
+      var iterator = mapped.neighborIterator(1);
+      assertEquals(3, iterator.nextInt());
+      assertEquals(69, iterator.nextInt());
+      assertFalse(iterator.hasNext());
+      assertThrows(NoSuchElementException.class, iterator::nextInt);
+    }
+
+    @Test
+    public void writeAndMapEmpty() throws IOException {
+      var path = directory.resolve("graph.bin");
+      GraphFile.write(Graph.<Integer>createMatrixGraph(0), path, GraphFile.Format.INTEGER);
+      var mapped = GraphFile.map(path, GraphFile.Format.INTEGER);
+      assertEquals(0, mapped.nodeCount());
+      assertEquals(0, mapped.edges().count());
+    }
+
+    @Test
+    public void mappedGraphIsReadOnly() throws IOException {
+      var graph = Graph.<Integer>createMatrixGraph(2);
+      graph.addEdge(0, 1, 1);
+      var path = directory.resolve("graph.bin");
+      GraphFile.write(graph, path, GraphFile.Format.INTEGER);
+      var mapped = GraphFile.map(path, GraphFile.Format.INTEGER);
+      assertAll(
+          () -> assertThrows(UnsupportedOperationException.class, () -> mapped.addEdge(0, 0, 0)),
+          () -> assertThrows(UnsupportedOperationException.class, () -> {
+            var iterator = mapped.neighborIterator(0);
+            iterator.next();
+            iterator.remove();
+          }),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> mapped.getWeight(2, 0)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> mapped.neighborIterator(-1))
+      );
+    }
+
+    @Test
+    public void mapWithTheWrongFormat() throws IOException {
+      var path = directory.resolve("graph.bin");
+      GraphFile.write(Graph.<Integer>createMatrixGraph(3), path, GraphFile.Format.INTEGER);
+      assertThrows(IOException.class, () -> GraphFile.map(path, GraphFile.Format.DOUBLE));
+    }
+
+    @Test
+    public void mapNotAGraphFile() throws IOException {
+      var path = directory.resolve("graph.bin");
+      Files.writeString(path, "node,node,weight\n0,1,42\n, this is a CSV file, not a graph file");
+      assertThrows(IOException.class, () -> GraphFile.map(path, GraphFile.Format.INTEGER));
+      var truncated = directory.resolve("truncated.bin");
+      Files.write(truncated, Arrays.copyOf(Files.readAllBytes(path), 8));
+      assertThrows(IOException.class, () -> GraphFile.map(truncated, GraphFile.Format.INTEGER));
+    }
+
+    // the offsets start after the 32 bytes of the header, the targets after the nodeCount + 1 offsets
+    private Path corrupt(String name, int position, int value) throws IOException {
+      var graph = Graph.<Integer>createNodeMapGraph(3);
+      graph.addEdge(0, 1, 10);
+      graph.addEdge(0, 2, 20);
+      graph.addEdge(2, 0, 30);
+      var path = directory.resolve(name);
+      GraphFile.write(graph, path, GraphFile.Format.INTEGER);
+      var bytes = Files.readAllBytes(path);
+      ByteBuffer.wrap(bytes).putInt(position, value);
+      Files.write(path, bytes);
+      return path;
+    }
+
+    @Test
+    public void mapCorruptedEdges() throws IOException {
+      var valid = corrupt("valid.bin", 32 + 4, 2);
+      var decreasingOffsets = corrupt("offsets.bin", 32 + 4 * 2, 1);
+      var targetOutOfBounds = corrupt("target.bin", 32 + 4 * 4, 3);
+      var unsortedTargets = corrupt("unsorted.bin", 32 + 4 * 4, 2);
+      assertAll(
+          () -> assertEquals(Optional.of(20), GraphFile.map(valid, GraphFile.Format.INTEGER).getWeight(0, 2)),
+          () -> assertThrows(IOException.class, () -> GraphFile.map(decreasingOffsets, GraphFile.Format.INTEGER)),
+          () -> assertThrows(IOException.class, () -> GraphFile.map(targetOutOfBounds, GraphFile.Format.INTEGER)),
+          () -> assertThrows(IOException.class, () -> GraphFile.map(unsortedTargets, GraphFile.Format.INTEGER))
+      );
+    }
+
+    @Test
+    public void writePreconditions() {
+      var graph = Graph.<Integer>createMatrixGraph(1);
+      var path = directory.resolve("graph.bin");
+      assertAll(
+          () -> assertThrows(NullPointerException.class, () -> GraphFile.write(null, path, GraphFile.Format.INTEGER)),
+          () -> assertThrows(NullPointerException.class, () -> GraphFile.write(graph, null, GraphFile.Format.INTEGER)),
+          () -> assertThrows(NullPointerException.class, () -> GraphFile.write(graph, path, null)),
+          () -> assertThrows(NullPointerException.class, () -> GraphFile.map(null, GraphFile.Format.INTEGER)),
+          () -> assertThrows(NullPointerException.class, () -> GraphFile.map(path, null))
+      );
+    }
+  }
+
+  @Nested
+  public class Concurrent {
+    @Test
+    @Timeout(10)
+    public void concurrentAddEdge() throws InterruptedException {
+      var graph = Graph.<Integer>createConcurrentMatrixGraph(100);
+      var threads = IntStream.range(0, 4).mapToObj(t -> Thread.ofPlatform().start(() -> {
+        for(var src = t; src < graph.nodeCount(); src += 4) {
+          for(var dst = 0; dst < graph.nodeCount(); dst++) {
+            graph.addEdge(src, dst, src * dst);
+          }
+        }
+      })).toList();
+      for(var thread: threads) {
+        thread.join();
+      }
+      for(var src = 0; src < graph.nodeCount(); src++) {
+        for(var dst = 0; dst < graph.nodeCount(); dst++) {
+          assertEquals(src * dst, graph.getWeight(src, dst).orElseThrow());
+        }
+      }
+    }
+
+    @Test
+    @Timeout(10)
+    public void concurrentMergeAllIsAtomicPerRow() throws InterruptedException {
+      var graph = Graph.<Integer>createConcurrentMatrixGraph(50);
+      var ones = Graph.<Integer>createMatrixGraph(50);
+      for(var src = 0; src < 50; src++) {
+        for(var dst = 0; dst < 50; dst += 3) {
+          ones.addEdge(src, dst, 1);
+        }
+      }
+      var count = 100;
+      var threads = IntStream.range(0, 4).mapToObj(t -> Thread.ofPlatform().start(() -> {
+        for(var i = 0; i < count; i++) {
+          graph.mergeAll(ones, Integer::sum);
+        }
+      })).toList();
+      for(var thread: threads) {
+        thread.join();
+      }
+      for(var src = 0; src < 50; src++) {
+        for(var dst = 0; dst < 50; dst++) {
+          assertEquals(ones.getWeight(src, dst).map(w -> 4 * count), graph.getWeight(src, dst));
+        }
+      }
+    }
+
+    @Test
+    @Timeout(10)
+    public void readersSeeCompleteRows() throws InterruptedException {
+      var graph = Graph.<Integer>createConcurrentMatrixGraph(64);
+      var full = Graph.<Integer>createMatrixGraph(64);
+      for(var dst = 0; dst < 64; dst++) {
+        full.addEdge(0, dst, 1);
+      }
+      var writer = Thread.ofPlatform().start(() -> {
+        for(var i = 0; i < 1_000; i++) {
+          graph.mergeAll(full, Integer::sum);
+        }
+      });
+      var errors = new AtomicInteger();
+      var reader = Thread.ofPlatform().start(() -> {
+        while(writer.isAlive()) {
+          graph.forEachEdge(0, edge -> {
+            if(edge.weight() < 1 || edge.weight() > 1_000) {
+              errors.incrementAndGet();
+            }
+          });
+          Thread.yield();
+        }
+      });
+      writer.join();
+      reader.join();
+      assertEquals(0, errors.get());
+      assertEquals(1_000, graph.getWeight(0, 63).orElseThrow());
+    }
+
+    @Test
+    public void concurrentMatrixGraphPreconditions() {
+      assertAll(
+          () -> assertThrows(IllegalArgumentException.class, () -> Graph.createConcurrentMatrixGraph(-1)),
+          () -> assertThrows(IllegalArgumentException.class, () -> Graph.createConcurrentMatrixGraph(100_000))
+      );
+    }
+  }
+
+  @Nested
+  public class DynamicNodes {
+    static Stream<GraphFactory> growableGraphFactoryProvider() {
+      return Stream.of(Graph::createMatrixGraph, Graph::createNodeMapGraph);
+    }
+
+    @ParameterizedTest
+    @MethodSource("growableGraphFactoryProvider")
+    public void addNode(GraphFactory factory) {
+      var graph = factory.<String>createGraph(2);
+      graph.addEdge(0, 1, "a");
+      graph.addEdge(1, 1, "b");
+      assertEquals(2, graph.addNode());
+      assertEquals(3, graph.nodeCount());
+      graph.addEdge(2, 0, "c");
+      graph.addEdge(1, 2, "d");
+      assertEquals(Set.of(
+          new Graph.Edge<>(0, 1, "a"),
+          new Graph.Edge<>(1, 1, "b"),
+          new Graph.Edge<>(2, 0, "c"),
+          new Graph.Edge<>(1, 2, "d")
+      ), graph.edges().collect(toSet()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("growableGraphFactoryProvider")
+    public void addNodeALot(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(0);
+      for(var i = 0; i < 1_000; i++) {
+        assertEquals(i, graph.addNode());
+        if(i > 0) {
+          graph.addEdge(i - 1, i, i);
+          graph.addEdge(i, 0, -i);
+        }
+      }
+      assertEquals(1_000, graph.nodeCount());
+      for(var i = 1; i < 1_000; i++) {
+        assertEquals(i, graph.getWeight(i - 1, i).orElseThrow());
+        assertEquals(-i, graph.getWeight(i, 0).orElseThrow());
+      }
+      assertEquals(1_998, graph.edges().count());
+    }
+
+    @ParameterizedTest
+    @MethodSource("growableGraphFactoryProvider")
+    public void removeNode(GraphFactory factory) {
+      var graph = factory.<String>createGraph(4);
+      graph.addEdge(0, 1, "0->1");
+      graph.addEdge(1, 3, "1->3");
+      graph.addEdge(3, 3, "3->3");
+      graph.addEdge(3, 0, "3->0");
+      graph.addEdge(3, 1, "3->1");
+      graph.addEdge(2, 0, "2->0");
+      graph.addEdge(1, 2, "1->2");
+      graph.removeNode(1);
+      // the node 3 is renumbered 1
+      assertEquals(3, graph.nodeCount());
+      assertEquals(Set.of(
+          new Graph.Edge<>(1, 1, "3->3"),
+          new Graph.Edge<>(1, 0, "3->0"),
+          new Graph.Edge<>(2, 0, "2->0")
+      ), graph.edges().collect(toSet()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("growableGraphFactoryProvider")
+    public void removeLastNode(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(3);
+      graph.addEdge(0, 2, 1);
+      graph.addEdge(2, 2, 2);
+      graph.addEdge(1, 0, 3);
+      graph.removeNode(2);
+      assertEquals(2, graph.nodeCount());
+      assertEquals(Set.of(new Graph.Edge<>(1, 0, 3)), graph.edges().collect(toSet()));
+      // the edges of the removed node do not come back with a new node
+      assertEquals(2, graph.addNode());
+      assertTrue(graph.getWeight(0, 2).isEmpty());
+      assertTrue(graph.getWeight(2, 2).isEmpty());
+      assertEquals(0, graph.neighbors(2).count());
+    }
+
+    @ParameterizedTest
+    @MethodSource("growableGraphFactoryProvider")
+    public void addAndRemoveNodes(GraphFactory factory) {
+      var graph = factory.<Integer>createGraph(0);
+      for(var i = 0; i < 100; i++) {
+        var node = graph.addNode();
+        graph.addEdge(node, node, i);
+        if(i % 3 == 2) {
+          graph.removeNode(0);
+        }
+      }
+      assertEquals(67, graph.nodeCount());
+      assertEquals(67, graph.edges().count());
+      assertTrue(graph.edges().allMatch(edge -> edge.src() == edge.dst()));
+    }
+
+    @ParameterizedTest
+    @MethodSource("growableGraphFactoryProvider")
+    public void removeNodePreconditions(GraphFactory factory) {
+      var graph = factory.createGraph(3);
+      assertAll(
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.removeNode(-1)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.removeNode(3))
+      );
+    }
+
+    @Test
+    public void fixedNodeCountGraphs() {
+      var graph = Graph.<Integer>createMatrixGraph(3);
+      var csr = Graph.createCsrGraph(graph);
+      var concurrent = Graph.createConcurrentMatrixGraph(3);
+      assertAll(
+          () -> assertThrows(UnsupportedOperationException.class, csr::addNode),
+          () -> assertThrows(UnsupportedOperationException.class, () -> csr.removeNode(0)),
+          () -> assertThrows(UnsupportedOperationException.class, concurrent::addNode),
+          () -> assertThrows(UnsupportedOperationException.class, () -> DoubleGraph.createMatrixGraph(2).removeNode(0))
+      );
+    }
+  }
+
+  @Nested
+  public class Bits {
+    private static BitGraph undirected(int nodeCount, int[][] edges) {
+      var graph = BitGraph.createMatrixGraph(nodeCount);
+      for(var edge: edges) {
+        graph.addEdge(edge[0], edge[1]);
+        graph.addEdge(edge[1], edge[0]);
+      }
+      return graph;
+    }
+
+    @Test
+    public void bitGraph() {
+      var graph = BitGraph.createMatrixGraph(130);
+      graph.addEdge(0, 129);
+      graph.addEdge(0, 64, true);
+      graph.addEdge(0, 0);
+      assertAll(
+          () -> assertTrue(graph.hasEdge(0, 129)),
+          () -> assertFalse(graph.hasEdge(129, 0)),
+          () -> assertEquals(Optional.of(true), graph.getWeight(0, 64)),
+          () -> assertEquals(Optional.empty(), graph.getWeight(0, 1)),
+          () -> assertEquals(3, graph.degree(0)),
+          () -> assertArrayEquals(new int[] { 0, 64, 129 }, graph.neighbors(0).toArray())
+      );
+      graph.removeEdge(0, 64);
+      assertFalse(graph.hasEdge(0, 64));
+      assertEquals(Set.of(new Graph.Edge<>(0, 0, true), new Graph.Edge<>(0, 129, true)), graph.edges().collect(toSet()));
+    }
+
+    @Test
+    public void commonNeighborCount() {
+      var graph = BitGraph.createMatrixGraph(200);
+      for(var i = 0; i < 200; i += 2) {
+        graph.addEdge(0, i);
+      }
+      for(var i = 0; i < 200; i += 3) {
+        graph.addEdge(1, i);
+      }
+      assertEquals(34, graph.commonNeighborCount(0, 1));
+      assertEquals(100, graph.commonNeighborCount(0, 0));
+      assertEquals(0, graph.commonNeighborCount(0, 2));
+    }
+
+    @Test
+    public void triangleCount() {
+      // two triangles sharing the edge 1-2, and a square without diagonal
+      var graph = undirected(8, new int[][] {
+          { 0, 1 }, { 0, 2 }, { 1, 2 }, { 1, 3 }, { 2, 3 },
+          { 4, 5 }, { 5, 6 }, { 6, 7 }, { 7, 4 }
+      });
+      graph.addEdge(5, 5);
+      assertEquals(2, graph.triangleCount());
+    }
+
+    @Test
+    public void triangleCountCompleteGraph() {
+      var nodeCount = 100;
+      var graph = BitGraph.createMatrixGraph(nodeCount);
+      for(var i = 0; i < nodeCount; i++) {
+        for(var j = 0; j < nodeCount; j++) {
+          if(i != j) {
+            graph.addEdge(i, j);
+          }
+        }
+      }
+      assertEquals(nodeCount * (nodeCount - 1) * (nodeCount - 2) / 6, graph.triangleCount());
+    }
+
+    @Test
+    public void transitiveClosure() {
+      var graph = BitGraph.createMatrixGraph(5);
+      graph.addEdge(0, 1);
+      graph.addEdge(1, 2);
+      graph.addEdge(2, 1);
+      graph.addEdge(3, 4);
+      var closure = graph.transitiveClosure();
+      assertAll(
+          () -> assertArrayEquals(new int[] { 1, 2 }, closure.neighbors(0).toArray()),
+          () -> assertArrayEquals(new int[] { 1, 2 }, closure.neighbors(1).toArray()),
+          () -> assertArrayEquals(new int[] { 1, 2 }, closure.neighbors(2).toArray()),
+          () -> assertArrayEquals(new int[] { 4 }, closure.neighbors(3).toArray()),
+          () -> assertArrayEquals(new int[0], closure.neighbors(4).toArray()),
+          // the graph is not modified
+          () -> assertFalse(graph.hasEdge(0, 2))
+      );
+    }
+
+    @Test
+    public void transitiveClosureALongPath() {
+      var nodeCount = 300;
+      var graph = BitGraph.createMatrixGraph(nodeCount);
+      for(var i = 0; i < nodeCount - 1; i++) {
+        graph.addEdge(i, i + 1);
+      }
+      var closure = graph.transitiveClosure();
+      for(var i = 0; i < nodeCount; i++) {
+        assertEquals(nodeCount - 1 - i, closure.degree(i));
+      }
+    }
+
+    @Test
+    public void bitGraphPreconditions() {
+      var graph = BitGraph.createMatrixGraph(3);
+      assertAll(
+          () -> assertThrows(IllegalArgumentException.class, () -> BitGraph.createMatrixGraph(-1)),
+          () -> assertThrows(IllegalArgumentException.class, () -> graph.addEdge(0, 0, false)),
+          () -> assertThrows(NullPointerException.class, () -> graph.addEdge(0, 0, null)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.addEdge(0, 3)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.hasEdge(-1, 0)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.removeEdge(3, 0)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.commonNeighborCount(0, 3)),
+          () -> assertThrows(IndexOutOfBoundsException.class, () -> graph.degree(3))
+      );
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package fr.uge.graph.algo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import fr.uge.graph.Graph;
+
+@SuppressWarnings("static-method")
+public class PageRankTest {
+  @Test
+  public void cycle() {
+    var graph = Graph.<Integer>createMatrixGraph(4);
+    for(var i = 0; i < 4; i++) {
+      graph.addEdge(i, (i + 1) % 4, 0);
+    }
+    var pageRank = PageRank.compute(graph, 1e-9);
+    for(var node = 0; node < 4; node++) {
+      assertEquals(0.25, pageRank.rank(node), 1e-9);
+    }
+  }
+
+  @Test
+  public void star() {
+    // all the nodes point to 0, 0 has no out-edge
+    var graph = Graph.<Integer>createNodeMapGraph(5);
+    for(var i = 1; i < 5; i++) {
+      graph.addEdge(i, 0, 0);
+    }
+    var pageRank = PageRank.compute(graph, 1e-12);
+    assertEquals(1.0, Arrays.stream(pageRank.ranks()).sum(), 1e-9);
+    for(var node = 1; node < 5; node++) {
+      assertTrue(pageRank.rank(0) > pageRank.rank(node));
+      assertEquals(pageRank.rank(1), pageRank.rank(node), 1e-12);
+    }
+  }
+
+  @Test
+  public void parallelSameAsSequential() {
+    var nodeCount = 20_000;
+    var random = new Random(0);
+    var graph = Graph.<Integer>createNodeMapGraph(nodeCount);
+    for(var i = 0; i < 100_000; i++) {
+      graph.addEdge(random.nextInt(nodeCount), random.nextInt(nodeCount), i);
+    }
+    var sequential = PageRank.compute(graph, PageRank.DEFAULT_DAMPING, 1e-10, 200, 1);
+    var parallel = PageRank.compute(graph, PageRank.DEFAULT_DAMPING, 1e-10, 200, 4);
+    assertEquals(sequential.iterations(), parallel.iterations());
+    for(var node = 0; node < nodeCount; node++) {
+      assertEquals(sequential.rank(node), parallel.rank(node), 1e-12);
+    }
+    assertEquals(1.0, Arrays.stream(parallel.ranks()).sum(), 1e-9);
+  }
+
+  @Test
+  public void maxIterations() {
+    var graph = Graph.<Integer>createMatrixGraph(3);
+    graph.addEdge(0, 1, 0);
+    graph.addEdge(1, 2, 0);
+    var pageRank = PageRank.compute(graph, PageRank.DEFAULT_DAMPING, 0, 3, 1);
+    assertEquals(3, pageRank.iterations());
+  }
+
+  @Test
+  public void emptyGraph() {
+    var pageRank = PageRank.compute(Graph.createMatrixGraph(0), 1e-6);
+    assertEquals(0, pageRank.ranks().length);
+  }
+
+  @Test
+  public void preconditions() {
+    var graph = Graph.createMatrixGraph(3);
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> PageRank.compute(null, 1e-6)),
+        () -> assertThrows(IllegalArgumentException.class, () -> PageRank.compute(graph, -1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> PageRank.compute(graph, 1.5, 1e-6, 10, 1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> PageRank.compute(graph, 0.85, Double.NaN, 10, 1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> PageRank.compute(graph, 0.85, 1e-6, 0, 1)),
+        () -> assertThrows(IllegalArgumentException.class, () -> PageRank.compute(graph, 0.85, 1e-6, 10, 0)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> PageRank.compute(graph, 1e-6).rank(3))
+    );
+  }
+}
@@ -0,0 +1,69 @@
+package fr.uge.graph.algo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import fr.uge.graph.Graph;
+
+@SuppressWarnings("static-method")
+public class ParallelTraversalsTest {
+  private static Graph<Integer> randomGraph(int nodeCount, int edgeCount, long seed) {
+    var random = new Random(seed);
+    var graph = Graph.<Integer>createNodeMapGraph(nodeCount);
+    for(var i = 0; i < edgeCount; i++) {
+      graph.addEdge(random.nextInt(nodeCount), random.nextInt(nodeCount), i);
+    }
+    return graph;
+  }
+
+  @Test
+  public void distancesSameAsSequential() {
+    var graph = randomGraph(2_000, 6_000, 0);
+    var sources = IntStream.range(0, 100).map(i -> i * 20).toArray();
+    for(var parallelism: new int[] { 1, 2, 4 }) {
+      var distances = ParallelTraversals.distances(graph, sources, parallelism);
+      assertEquals(sources.length, distances.length);
+      for(var i = 0; i < sources.length; i++) {
+        assertArrayEquals(Traversals.distances(graph, sources[i]), distances[i]);
+      }
+    }
+  }
+
+  @Test
+  public void distancesAllPairs() {
+    var graph = Graph.<Integer>createMatrixGraph(4);
+    graph.addEdge(0, 1, 0);
+    graph.addEdge(1, 2, 0);
+    graph.addEdge(2, 0, 0);
+    var distances = ParallelTraversals.distances(graph, new int[] { 0, 1, 2, 3 });
+    assertArrayEquals(new int[][] {
+        { 0, 1, 2, -1 },
+        { 2, 0, 1, -1 },
+        { 1, 2, 0, -1 },
+        { -1, -1, -1, 0 }
+    }, distances);
+  }
+
+  @Test
+  public void distancesNoSource() {
+    assertEquals(0, ParallelTraversals.distances(Graph.createMatrixGraph(3), new int[0]).length);
+  }
+
+  @Test
+  public void distancesPreconditions() {
+    var graph = Graph.createMatrixGraph(3);
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> ParallelTraversals.distances(null, new int[] { 0 })),
+        () -> assertThrows(NullPointerException.class, () -> ParallelTraversals.distances(graph, null)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> ParallelTraversals.distances(graph, new int[] { 0, 3 })),
+        () -> assertThrows(IllegalArgumentException.class, () -> ParallelTraversals.distances(graph, new int[] { 0 }, 0))
+    );
+  }
+}
@@ -0,0 +1,115 @@
+package fr.uge.graph.algo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import fr.uge.graph.DoubleGraph;
+import fr.uge.graph.Graph;
+
+@SuppressWarnings("static-method")
+public class ShortestPathsTest {
+  @Test
+  public void dijkstra() {
+    var graph = Graph.<Integer>createMatrixGraph(5);
+    graph.addEdge(0, 1, 10);
+    graph.addEdge(0, 2, 3);
+    graph.addEdge(2, 1, 4);
+    graph.addEdge(1, 3, 2);
+    graph.addEdge(2, 3, 8);
+    var paths = ShortestPaths.dijkstra(graph, 0, Integer::doubleValue);
+    assertAll(
+        () -> assertEquals(0, paths.source()),
+        () -> assertEquals(0.0, paths.distance(0)),
+        () -> assertEquals(7.0, paths.distance(1)),
+        () -> assertEquals(3.0, paths.distance(2)),
+        () -> assertEquals(9.0, paths.distance(3)),
+        () -> assertEquals(Double.POSITIVE_INFINITY, paths.distance(4)),
+        () -> assertEquals(1, paths.predecessor(3)),
+        () -> assertEquals(-1, paths.predecessor(0)),
+        () -> assertArrayEquals(new int[] { 0, 2, 1, 3 }, paths.path(3)),
+        () -> assertArrayEquals(new int[] { 0 }, paths.path(0)),
+        () -> assertArrayEquals(new int[0], paths.path(4))
+    );
+  }
+
+  @Test
+  public void dijkstraWithAWeightMapper() {
+    var graph = Graph.<String>createNodeMapGraph(3);
+    graph.addEdge(0, 1, "a very long edge");
+    graph.addEdge(0, 2, "a");
+    graph.addEdge(2, 1, "bb");
+    var paths = ShortestPaths.dijkstra(graph, 0, String::length);
+    assertEquals(3.0, paths.distance(1));
+    assertArrayEquals(new int[] { 0, 2, 1 }, paths.path(1));
+  }
+
+  @Test
+  public void dijkstraDoubleGraphSameAsBoxed() {
+    var nodeCount = 200;
+    var random = new Random(0);
+    var graph = DoubleGraph.createMatrixGraph(nodeCount);
+    for(var i = 0; i < 2_000; i++) {
+      graph.addEdge(random.nextInt(nodeCount), random.nextInt(nodeCount), random.nextDouble(10));
+    }
+    var paths = ShortestPaths.dijkstra(graph, 0);
+    var boxedPaths = ShortestPaths.dijkstra((Graph<Double>) graph, 0, Double::doubleValue);
+    for(var node = 0; node < nodeCount; node++) {
+      assertEquals(boxedPaths.distance(node), paths.distance(node));
+    }
+  }
+
+  @Test
+  public void dijkstraMatchesBellmanFord() {
+    var nodeCount = 100;
+    var random = new Random(1);
+    var graph = Graph.<Integer>createMatrixGraph(nodeCount);
+    for(var i = 0; i < 800; i++) {
+      graph.addEdge(random.nextInt(nodeCount), random.nextInt(nodeCount), random.nextInt(100));
+    }
+    var expected = new double[nodeCount];
+    Arrays.fill(expected, Double.POSITIVE_INFINITY);
+    expected[0] = 0;
+    for(var round = 0; round < nodeCount; round++) {
+      for(var src = 0; src < nodeCount; src++) {
+        var distance = expected[src];
+        graph.forEachEdge(src, edge -> expected[edge.dst()] = Math.min(expected[edge.dst()], distance + edge.weight()));
+      }
+    }
+    var paths = ShortestPaths.dijkstra(graph, 0, Integer::doubleValue);
+    for(var node = 0; node < nodeCount; node++) {
+      assertEquals(expected[node], paths.distance(node));
+    }
+  }
+
+  @Test
+  public void dijkstraNegativeLength() {
+    var graph = Graph.<Integer>createMatrixGraph(2);
+    graph.addEdge(0, 1, -1);
+    assertThrows(IllegalArgumentException.class, () -> ShortestPaths.dijkstra(graph, 0, Integer::doubleValue));
+    var doubleGraph = DoubleGraph.createMatrixGraph(2);
+    doubleGraph.addEdge(0, 1, Double.NaN);
+    assertThrows(IllegalArgumentException.class, () -> ShortestPaths.dijkstra(doubleGraph, 0));
+  }
+
+  @Test
+  public void preconditions() {
+    var graph = Graph.<Integer>createMatrixGraph(2);
+    var paths = ShortestPaths.dijkstra(graph, 0, Integer::doubleValue);
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> ShortestPaths.dijkstra(null, 0, Integer::doubleValue)),
+        () -> assertThrows(NullPointerException.class, () -> ShortestPaths.dijkstra(graph, 0, null)),
+        () -> assertThrows(NullPointerException.class, () -> ShortestPaths.dijkstra(null, 0)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> ShortestPaths.dijkstra(graph, 2, Integer::doubleValue)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> paths.distance(2)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> paths.predecessor(-1)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> paths.path(2))
+    );
+  }
+}
@@ -0,0 +1,77 @@
+package fr.uge.graph.algo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import fr.uge.graph.Graph;
+
+@SuppressWarnings("static-method")
+public class StronglyConnectedComponentsTest {
+  @Test
+  public void components() {
+    // {0, 1, 2} -> {3, 4} -> {5}
+    var graph = Graph.<Integer>createMatrixGraph(6);
+    graph.addEdge(0, 1, 0);
+    graph.addEdge(1, 2, 0);
+    graph.addEdge(2, 0, 0);
+    graph.addEdge(2, 3, 0);
+    graph.addEdge(3, 4, 0);
+    graph.addEdge(4, 3, 0);
+    graph.addEdge(4, 5, 0);
+    var components = StronglyConnectedComponents.of(graph);
+    assertAll(
+        () -> assertEquals(3, components.count()),
+        () -> assertTrue(components.connected(0, 2)),
+        () -> assertTrue(components.connected(3, 4)),
+        () -> assertFalse(components.connected(2, 3)),
+        () -> assertFalse(components.connected(4, 5)),
+        () -> assertTrue(components.component(0) > components.component(3)),
+        () -> assertTrue(components.component(3) > components.component(5))
+    );
+  }
+
+  @Test
+  public void noEdge() {
+    var components = StronglyConnectedComponents.of(Graph.createNodeMapGraph(10));
+    assertEquals(10, components.count());
+  }
+
+  @Test
+  public void aLongCycle() {
+    var nodeCount = 1_000_000;
+    var graph = Graph.<Integer>createNodeMapGraph(nodeCount);
+    for(var i = 0; i < nodeCount; i++) {
+      graph.addEdge(i, (i + 1) % nodeCount, i);
+    }
+    var components = StronglyConnectedComponents.of(graph);
+    assertEquals(1, components.count());
+    assertTrue(components.connected(0, nodeCount - 1));
+  }
+
+  @Test
+  public void aLongPath() {
+    var nodeCount = 1_000_000;
+    var graph = Graph.<Integer>createNodeMapGraph(nodeCount);
+    for(var i = 0; i < nodeCount - 1; i++) {
+      graph.addEdge(i, i + 1, i);
+    }
+    var components = StronglyConnectedComponents.of(graph);
+    assertEquals(nodeCount, components.count());
+    assertEquals(0, components.component(nodeCount - 1));
+  }
+
+  @Test
+  public void preconditions() {
+    var components = StronglyConnectedComponents.of(Graph.createMatrixGraph(2));
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> StronglyConnectedComponents.of(null)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> components.component(2)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> components.connected(0, -1))
+    );
+  }
+}
@@ -0,0 +1,65 @@
+package fr.uge.graph.algo;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import fr.uge.graph.Graph;
+
+@SuppressWarnings("static-method")
+public class TopologicalSortTest {
+  @Test
+  public void sort() {
+    var graph = Graph.<Integer>createMatrixGraph(4);
+    graph.addEdge(3, 1, 0);
+    graph.addEdge(1, 0, 0);
+    graph.addEdge(3, 2, 0);
+    graph.addEdge(2, 0, 0);
+    var sorted = TopologicalSort.sort(graph);
+    assertEquals(3, sorted[0]);
+    assertEquals(0, sorted[3]);
+  }
+
+  @Test
+  public void sortRandomDag() {
+    var nodeCount = 1_000;
+    var random = new Random(0);
+    var graph = Graph.<Integer>createNodeMapGraph(nodeCount);
+    for(var i = 0; i < 10_000; i++) {
+      var src = random.nextInt(nodeCount - 1);
+      graph.addEdge(src, src + 1 + random.nextInt(nodeCount - 1 - src), 0);
+    }
+    var sorted = TopologicalSort.sort(graph);
+    var positions = new int[nodeCount];
+    for(var i = 0; i < nodeCount; i++) {
+      positions[sorted[i]] = i;
+    }
+    for(var src = 0; src < nodeCount; src++) {
+      graph.forEachEdge(src, edge -> assertTrue(positions[edge.src()] < positions[edge.dst()]));
+    }
+  }
+
+  @Test
+  public void sortEmpty() {
+    assertArrayEquals(new int[0], TopologicalSort.sort(Graph.createMatrixGraph(0)));
+  }
+
+  @Test
+  public void sortCycle() {
+    var graph = Graph.<Integer>createMatrixGraph(3);
+    graph.addEdge(0, 1, 0);
+    graph.addEdge(1, 2, 0);
+    graph.addEdge(2, 1, 0);
+    assertThrows(IllegalArgumentException.class, () -> TopologicalSort.sort(graph));
+  }
+
+  @Test
+  public void sortPreconditions() {
+    assertThrows(NullPointerException.class, () -> TopologicalSort.sort(null));
+  }
+}
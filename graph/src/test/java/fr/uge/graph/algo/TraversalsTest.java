@@ -0,0 +1,111 @@
+package fr.uge.graph.algo;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import fr.uge.graph.Graph;
+
+@SuppressWarnings("static-method")
+public class TraversalsTest {
+  interface GraphFactory {
+    <T> Graph<T> createGraph(int nodeCount);
+  }
+
+  static Stream<GraphFactory> graphFactoryProvider() {
+    return Stream.of(Graph::createMatrixGraph, Graph::createNodeMapGraph);
+  }
+
+  // 0 -> 1 -> 3, 0 -> 2 -> 3 -> 4, 5 is not reachable
+  private static Graph<Integer> diamond(GraphFactory factory) {
+    var graph = factory.<Integer>createGraph(6);
+    graph.addEdge(0, 1, 1);
+    graph.addEdge(0, 2, 1);
+    graph.addEdge(1, 3, 1);
+    graph.addEdge(2, 3, 1);
+    graph.addEdge(3, 4, 1);
+    graph.addEdge(5, 0, 1);
+    return graph;
+  }
+
+  @ParameterizedTest
+  @MethodSource("graphFactoryProvider")
+  public void bfs(GraphFactory factory) {
+    var order = Traversals.bfs(diamond(factory), 0);
+    assertEquals(5, order.length);
+    assertEquals(0, order[0]);
+    assertEquals(3, order[3]);
+    assertEquals(4, order[4]);
+  }
+
+  @ParameterizedTest
+  @MethodSource("graphFactoryProvider")
+  public void distances(GraphFactory factory) {
+    assertArrayEquals(new int[] { 0, 1, 1, 2, 3, -1 }, Traversals.distances(diamond(factory), 0));
+  }
+
+  @Test
+  public void dfs() {
+    var graph = diamond(Graph::createMatrixGraph);
+    // the matrix graph returns the neighbors in increasing order
+    assertArrayEquals(new int[] { 0, 1, 3, 4, 2 }, Traversals.dfs(graph, 0));
+    assertArrayEquals(new int[] { 5, 0, 1, 3, 4, 2 }, Traversals.dfs(graph, 5));
+  }
+
+  @Test
+  public void selfLoopAndSingleNode() {
+    var graph = Graph.<String>createMatrixGraph(1);
+    graph.addEdge(0, 0, "loop");
+    assertAll(
+        () -> assertArrayEquals(new int[] { 0 }, Traversals.bfs(graph, 0)),
+        () -> assertArrayEquals(new int[] { 0 }, Traversals.dfs(graph, 0)),
+        () -> assertArrayEquals(new int[] { 0 }, Traversals.distances(graph, 0))
+    );
+  }
+
+  @Test
+  public void dfsALongPath() {
+    var nodeCount = 1_000_000;
+    var graph = Graph.<Integer>createNodeMapGraph(nodeCount);
+    for(var i = 0; i < nodeCount - 1; i++) {
+      graph.addEdge(i, i + 1, i);
+    }
+    var order = Traversals.dfs(graph, 0);
+    assertEquals(nodeCount, order.length);
+    assertEquals(nodeCount - 1, order[nodeCount - 1]);
+    assertEquals(nodeCount - 1, Traversals.distances(graph, 0)[nodeCount - 1]);
+  }
+
+  @Test
+  public void bfsVisitsEachNodeOnce() {
+    var graph = Graph.<Integer>createMatrixGraph(50);
+    for(var i = 0; i < 50; i++) {
+      for(var j = 0; j < 50; j++) {
+        graph.addEdge(i, j, 0);
+      }
+    }
+    var order = Traversals.bfs(graph, 7);
+    assertEquals(50, Arrays.stream(order).distinct().count());
+  }
+
+  @Test
+  public void preconditions() {
+    var graph = Graph.createMatrixGraph(3);
+    assertAll(
+        () -> assertThrows(NullPointerException.class, () -> Traversals.bfs(null, 0)),
+        () -> assertThrows(NullPointerException.class, () -> Traversals.dfs(null, 0)),
+        () -> assertThrows(NullPointerException.class, () -> Traversals.distances(null, 0)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> Traversals.bfs(graph, 3)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> Traversals.dfs(graph, -1)),
+        () -> assertThrows(IndexOutOfBoundsException.class, () -> Traversals.distances(graph, 3))
+    );
+  }
+}
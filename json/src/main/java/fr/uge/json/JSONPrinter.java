@@ -1,25 +1,115 @@
 package fr.uge.json;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.RecordComponent;
 import java.lang.reflect.UndeclaredThrowableException;
-import java.util.Arrays;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 public class JSONPrinter {
-	
-	private static final ClassValue<RecordComponent[]> CACHE = new ClassValue<>() {
+
+	/**
+	 * A record component resolved once per class: the key is already quoted and
+	 * followed by a colon (and preceded by a comma for all but the first one),
+	 * the getter is a class spun by {@link LambdaMetafactory} that calls the accessor
+	 * directly, so reading a component is an interface call and not a reflective one.
+	 */
+	private record Component(String key, Function<Object, Object> getter) {}
+
+	/**
+	 * Empties the buffer into the underlying output; when endOfInput is false,
+	 * a trailing incomplete character may be left in the buffer for the next call.
+	 */
+	@FunctionalInterface
+	private interface Drain {
+		void drain(StringBuilder buffer, boolean endOfInput) throws IOException;
+	}
+
+	private static final int BUFFER_SIZE = 8_192;
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType FACTORY_TYPE = MethodType.methodType(Function.class);
+
+	private static final ClassValue<Component[]> CACHE = new ClassValue<>() {
 
 		@Override
-		protected RecordComponent[] computeValue(Class<?> type) {
-			return type.getRecordComponents();
+		protected Component[] computeValue(Class<?> type) {
+			var recordComponents = type.getRecordComponents();
+			var components = new Component[recordComponents.length];
+			for(var i = 0; i < recordComponents.length; i++) {
+				var recordComponent = recordComponents[i];
+				var key = (i == 0 ? "\"" : ",\"") + name(recordComponent) + "\":";
+				components[i] = new Component(key, getter(type, recordComponent.getAccessor()));
+			}
+			return components;
 		}
-		
+
 	};
-	
+
+	private static String name(RecordComponent component) {
+		var property = component.getAnnotation(JSONProperty.class);
+		return property == null ? component.getName() : property.value();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Function<Object, Object> getter(Class<?> type, Method accessor) {
+		MethodHandles.Lookup lookup;
+		MethodHandle handle;
+		try {
+			// the lambda class is a nestmate of the record, so it works for non public records too
+			lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+			handle = lookup.unreflect(accessor);
+		} catch (IllegalAccessException e) {
+			return getter(accessor);
+		}
+		try {
+			var site = LambdaMetafactory.metafactory(lookup, "apply", FACTORY_TYPE, GETTER_TYPE, handle, handle.type().wrap());
+			return (Function<Object, Object>) site.getTarget().invoke();
+		} catch (LambdaConversionException e) {
+			// the lookup has no full privilege access, e.g. the record comes from another class loader
+			return getter(accessor);
+		} catch (Throwable t) {
+			throw new AssertionError(t);
+		}
+	}
+
+	// slow path, for the records the lambda metafactory can not see
+	private static Function<Object, Object> getter(Method accessor) {
+		MethodHandle handle;
+		try {
+			handle = MethodHandles.lookup().unreflect(accessor).asType(GETTER_TYPE);
+		} catch (IllegalAccessException e) {
+			throw (IllegalAccessError) new IllegalAccessError().initCause(e);
+		}
+		return record -> {
+			try {
+				return (Object) handle.invokeExact(record);
+			} catch(Throwable t) {
+				switch(t) {
+				case RuntimeException rte -> throw rte;
+				case Error error -> throw error;
+				default -> throw new UndeclaredThrowableException(t);
+				}
+			}
+		};
+	}
+
 	static Object invoke(Method method, Object object) {
 		Objects.requireNonNull(method);
 		Objects.requireNonNull(object);
@@ -38,26 +128,142 @@ public class JSONPrinter {
 		}
 	}
 
-	@SuppressWarnings("unused")
-	private static String escape(Object o) {
-		return o instanceof String s ? "\"" + s + "\"": "" + o;
+	private static void appendValue(StringBuilder builder, Object value) {
+		if(value instanceof String s) {
+			builder.append('"').append(s).append('"');
+		} else {
+			builder.append(value);
+		}
+	}
+
+	private static void appendRecord(StringBuilder builder, Record record) {
+		builder.append('{');
+		for(var component : CACHE.get(record.getClass())) {
+			builder.append(component.key);
+			appendValue(builder, component.getter.apply(record));
+		}
+		builder.append('}');
 	}
 
 	public static String toJSON(Record record) {
 		Objects.requireNonNull(record);
-
-		return Arrays.stream(CACHE.get(record.getClass()))
-				.map(e-> {
-					var annote = e.isAnnotationPresent(JSONProperty.class)? e.getAnnotation(JSONProperty.class).value():e.getName();
-					return "\""+annote+"\":" +escape(invoke(e.getAccessor(),record));
-					}
-				)
-				.collect(Collectors.joining(",","{","}"));
+		var builder = new StringBuilder();
+		appendRecord(builder, record);
+		return builder.toString();
 	}
-	
+
 	public static String toJSON(List<? extends Record> list) {
 		Objects.requireNonNull(list);
 		list.forEach(Objects::requireNonNull);
-		return list.stream().map(e -> toJSON(e)).collect(Collectors.joining(",","[","]"));
+		var builder = new StringBuilder().append('[');
+		var separator = "";
+		for(var record : list) {
+			builder.append(separator);
+			appendRecord(builder, record);
+			separator = ",";
+		}
+		return builder.append(']').toString();
+	}
+
+	/**
+	 * Appends the JSON object of the record to the appendable.
+	 */
+	public static void write(Record record, Appendable appendable) throws IOException {
+		Objects.requireNonNull(record);
+		Objects.requireNonNull(appendable);
+		if(appendable instanceof StringBuilder builder) {
+			appendRecord(builder, record);
+			return;
+		}
+		var builder = new StringBuilder();
+		appendRecord(builder, record);
+		appendable.append(builder);
+	}
+
+	/**
+	 * Writes the records as a JSON array to the writer, going through a buffer
+	 * of bounded size so the whole array is never materialized.
+	 * The writer is neither flushed nor closed.
+	 */
+	public static void writeAll(Iterable<? extends Record> records, Writer writer) throws IOException {
+		Objects.requireNonNull(records);
+		Objects.requireNonNull(writer);
+		writeAll(records.iterator(), drain(writer));
+	}
+
+	public static void writeAll(Stream<? extends Record> records, Writer writer) throws IOException {
+		Objects.requireNonNull(records);
+		Objects.requireNonNull(writer);
+		writeAll(records.iterator(), drain(writer));
+	}
+
+	/**
+	 * Writes the records as a JSON array encoded in UTF-8 to the output stream,
+	 * going through buffers of bounded size so the whole array is never materialized.
+	 * The output stream is neither flushed nor closed.
+	 */
+	public static void writeAll(Iterable<? extends Record> records, OutputStream output) throws IOException {
+		Objects.requireNonNull(records);
+		Objects.requireNonNull(output);
+		writeAll(records.iterator(), drain(output));
+	}
+
+	public static void writeAll(Stream<? extends Record> records, OutputStream output) throws IOException {
+		Objects.requireNonNull(records);
+		Objects.requireNonNull(output);
+		writeAll(records.iterator(), drain(output));
+	}
+
+	private static void writeAll(Iterator<? extends Record> iterator, Drain drain) throws IOException {
+		var buffer = new StringBuilder(BUFFER_SIZE * 2).append('[');
+		var separator = "";
+		while(iterator.hasNext()) {
+			var record = Objects.requireNonNull(iterator.next());
+			buffer.append(separator);
+			appendRecord(buffer, record);
+			separator = ",";
+			if(buffer.length() >= BUFFER_SIZE) {
+				drain.drain(buffer, false);
+			}
+		}
+		buffer.append(']');
+		drain.drain(buffer, true);
+	}
+
+	private static Drain drain(Writer writer) {
+		var chars = new char[BUFFER_SIZE];
+		return (buffer, endOfInput) -> {
+			for(var start = 0; start < buffer.length(); start += chars.length) {
+				var end = Math.min(start + chars.length, buffer.length());
+				buffer.getChars(start, end, chars, 0);
+				writer.write(chars, 0, end - start);
+			}
+			buffer.setLength(0);
+		};
+	}
+
+	private static Drain drain(OutputStream output) {
+		// replace malformed surrogates like String.getBytes() does
+		var encoder = StandardCharsets.UTF_8.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		var bytes = ByteBuffer.allocate(BUFFER_SIZE);
+		return (buffer, endOfInput) -> {
+			var chars = CharBuffer.wrap(buffer);
+			while(encoder.encode(chars, bytes, endOfInput).isOverflow()) {
+				output.write(bytes.array(), 0, bytes.position());
+				bytes.clear();
+			}
+			if(endOfInput) {
+				while(encoder.flush(bytes).isOverflow()) {
+					output.write(bytes.array(), 0, bytes.position());
+					bytes.clear();
+				}
+			}
+			output.write(bytes.array(), 0, bytes.position());
+			bytes.clear();
+			// a high surrogate at the end waits for its low surrogate
+			buffer.delete(0, chars.position());
+		};
 	}
 }
@@ -0,0 +1,147 @@
+package fr.uge.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// serializes 1_000 records, comparing the way the component values are read
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JSONPrinterBenchmark {
+	public record Order(@JSONProperty("order-id") long id, String customer, int quantity, double price, boolean paid) {}
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final ClassValue<RecordComponent[]> COMPONENTS = new ClassValue<>() {
+		@Override
+		protected RecordComponent[] computeValue(Class<?> type) {
+			return type.getRecordComponents();
+		}
+	};
+
+	// the same pre-baked keys as JSONPrinter, only the getter differs
+	private record HandleComponent(String key, MethodHandle getter) {}
+
+	// the MethodHandles read from a ClassValue are not constants for the JIT
+	private static final ClassValue<HandleComponent[]> HANDLES = new ClassValue<>() {
+		@Override
+		protected HandleComponent[] computeValue(Class<?> type) {
+			var lookup = MethodHandles.lookup();
+			var recordComponents = type.getRecordComponents();
+			var components = new HandleComponent[recordComponents.length];
+			for(var i = 0; i < recordComponents.length; i++) {
+				var recordComponent = recordComponents[i];
+				var property = recordComponent.getAnnotation(JSONProperty.class);
+				var name = property == null ? recordComponent.getName() : property.value();
+				var key = (i == 0 ? "\"" : ",\"") + name + "\":";
+				try {
+					components[i] = new HandleComponent(key, lookup.unreflect(recordComponent.getAccessor()).asType(GETTER_TYPE));
+				} catch (IllegalAccessException e) {
+					throw (IllegalAccessError) new IllegalAccessError().initCause(e);
+				}
+			}
+			return components;
+		}
+	};
+
+	private List<Order> orders;
+
+	@Setup
+	public void setup() {
+		orders = IntStream.range(0, 1_000)
+				.mapToObj(i -> new Order(i, "customer" + i, i % 10, i * 1.5, i % 2 == 0))
+				.toList();
+		var expected = JSONPrinter.toJSON(orders);
+		if(!expected.equals(reflection()) || !expected.equals(methodHandle())) {
+			throw new AssertionError("the variants do not produce the same JSON");
+		}
+	}
+
+	private static String escape(Object o) {
+		return o instanceof String s ? "\"" + s + "\"": "" + o;
+	}
+
+	// the implementation before the compiled writers: Method.invoke and an annotation lookup per component
+	private static String reflectionToJSON(Record record) {
+		return Arrays.stream(COMPONENTS.get(record.getClass()))
+				.map(e -> {
+					var annote = e.isAnnotationPresent(JSONProperty.class)? e.getAnnotation(JSONProperty.class).value():e.getName();
+					return "\"" + annote + "\":" + escape(JSONPrinter.invoke(e.getAccessor(), record));
+				})
+				.collect(Collectors.joining(",", "{", "}"));
+	}
+
+	// the same loop as JSONPrinter.appendRecord with the getters called with invokeExact
+	private static void appendRecord(StringBuilder builder, Record record) {
+		builder.append('{');
+		for(var component : HANDLES.get(record.getClass())) {
+			Object value;
+			try {
+				value = (Object) component.getter.invokeExact((Object) record);
+			} catch(Throwable t) {
+				throw new UndeclaredThrowableException(t);
+			}
+			builder.append(component.key);
+			if(value instanceof String s) {
+				builder.append('"').append(s).append('"');
+			} else {
+				builder.append(value);
+			}
+		}
+		builder.append('}');
+	}
+
+	@Benchmark
+	public String reflection() {
+		return orders.stream().map(JSONPrinterBenchmark::reflectionToJSON).collect(Collectors.joining(",", "[", "]"));
+	}
+
+	@Benchmark
+	public String methodHandle() {
+		var builder = new StringBuilder().append('[');
+		var separator = "";
+		for(var order : orders) {
+			builder.append(separator);
+			appendRecord(builder, order);
+			separator = ",";
+		}
+		return builder.append(']').toString();
+	}
+
+	@Benchmark
+	public String lambdaMetafactory() {
+		return JSONPrinter.toJSON(orders);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		var options = new OptionsBuilder()
+				.include(JSONPrinterBenchmark.class.getName())
+				.build();
+		new Runner(options).run();
+	}
+}
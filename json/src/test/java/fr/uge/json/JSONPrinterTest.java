@@ -3,15 +3,20 @@ package fr.uge.json;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.AccessFlag;
 import java.lang.reflect.UndeclaredThrowableException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -280,4 +285,139 @@ public class JSONPrinterTest {
       assertTrue(method.accessFlags().contains(AccessFlag.PUBLIC));
     }
   }
+
+  @Nested
+  public class CompiledWriter {
+
+    @Test
+    public void testToJSONSameClassTwice() {
+      record Point(@JSONProperty("coord-x") int x, int y) { }
+
+      assertAll(
+          () -> assertEquals("{\"coord-x\":1,\"y\":2}", JSONPrinter.toJSON(new Point(1, 2))),
+          () -> assertEquals("{\"coord-x\":3,\"y\":4}", JSONPrinter.toJSON(new Point(3, 4)))
+      );
+    }
+
+    @Test
+    public void testToJSONEmptyRecord() {
+      record Empty() { }
+
+      assertEquals("{}", JSONPrinter.toJSON(new Empty()));
+    }
+
+    @Test
+    public void testToJSONEmptyList() {
+      assertEquals("[]", JSONPrinter.toJSON(List.<Record>of()));
+    }
+
+    @Test
+    public void testToJSONNullValue() {
+      record Box(String value) { }
+
+      assertEquals("{\"value\":null}", JSONPrinter.toJSON(new Box(null)));
+    }
+
+    @Test
+    public void testToJSONAccessorShouldPropagateRuntimeException() {
+      record Foo(String s) {
+        public String s() {
+          throw new IllegalStateException();
+        }
+      }
+
+      assertThrows(IllegalStateException.class, () -> JSONPrinter.toJSON(new Foo("foo")));
+    }
+  }
+
+  @Nested
+  public class Streaming {
+
+    @Test
+    public void testWriteStringBuilder() throws IOException {
+      var builder = new StringBuilder("prefix:");
+      JSONPrinter.write(new Person("John", "Doe"), builder);
+      assertEquals("prefix:" + JSONPrinter.toJSON(new Person("John", "Doe")), builder.toString());
+    }
+
+    @Test
+    public void testWriteAppendable() throws IOException {
+      var writer = new StringWriter();
+      JSONPrinter.write(new Alien(100, "Jupiter"), writer);
+      assertEquals(JSONPrinter.toJSON(new Alien(100, "Jupiter")), writer.toString());
+    }
+
+    @Test
+    public void testWriteAllWriter() throws IOException {
+      record Point(@JSONProperty("coord-x") int x, int y) { }
+
+      var points = IntStream.range(0, 10_000)
+          .mapToObj(i -> new Point(i, -i))
+          .toList();
+      var writer = new StringWriter();
+      JSONPrinter.writeAll(points, writer);
+      assertEquals(JSONPrinter.toJSON(points), writer.toString());
+    }
+
+    @Test
+    public void testWriteAllStreamWriter() throws IOException {
+      var aliens = IntStream.range(0, 10_000)
+          .mapToObj(i -> new Alien(i, "planet" + i))
+          .toList();
+      var writer = new StringWriter();
+      JSONPrinter.writeAll(aliens.stream(), writer);
+      assertEquals(JSONPrinter.toJSON(aliens), writer.toString());
+    }
+
+    @Test
+    public void testWriteAllEmpty() throws IOException {
+      var writer = new StringWriter();
+      var output = new ByteArrayOutputStream();
+      JSONPrinter.writeAll(List.<Record>of(), writer);
+      JSONPrinter.writeAll(Stream.<Record>of(), output);
+      assertAll(
+          () -> assertEquals("[]", writer.toString()),
+          () -> assertEquals("[]", output.toString(StandardCharsets.UTF_8))
+      );
+    }
+
+    @Test
+    public void testWriteAllOutputStreamUTF8() throws IOException {
+      // the emoji are surrogate pairs that end up split across buffer boundaries
+      var persons = IntStream.range(0, 10_000)
+          .mapToObj(i -> new Person("J\u00e9r\u00f4me" + i, "\uD83D\uDE00".repeat(i % 7)))
+          .toList();
+      var output = new ByteArrayOutputStream();
+      JSONPrinter.writeAll(persons, output);
+      assertArrayEquals(JSONPrinter.toJSON(persons).getBytes(StandardCharsets.UTF_8), output.toByteArray());
+    }
+
+    @Test
+    public void testWriteAllStreamOutputStream() throws IOException {
+      var aliens = IntStream.range(0, 1_000)
+          .mapToObj(i -> new Alien(i, "\u706b\u661f"));
+      var output = new ByteArrayOutputStream();
+      JSONPrinter.writeAll(aliens, output);
+      var list = parse(output.toString(StandardCharsets.UTF_8),
+          new com.fasterxml.jackson.core.type.TypeReference<List<Map<String, Object>>>() {});
+      assertAll(
+          () -> assertEquals(1_000, list.size()),
+          () -> assertEquals(Map.of("age", 999, "planet", "\u706b\u661f"), list.getLast())
+      );
+    }
+
+    @Test
+    public void testWritePreconditions() {
+      var person = new Person("John", "Doe");
+      assertAll(
+          () -> assertThrows(NullPointerException.class, () -> JSONPrinter.write(null, new StringBuilder())),
+          () -> assertThrows(NullPointerException.class, () -> JSONPrinter.write(person, null)),
+          () -> assertThrows(NullPointerException.class, () -> JSONPrinter.writeAll((List<Record>) null, new StringWriter())),
+          () -> assertThrows(NullPointerException.class, () -> JSONPrinter.writeAll(List.of(person), (StringWriter) null)),
+          () -> assertThrows(NullPointerException.class, () -> JSONPrinter.writeAll(List.of(person), (ByteArrayOutputStream) null)),
+          () -> assertThrows(NullPointerException.class,
+              () -> JSONPrinter.writeAll(Arrays.asList(person, null), new StringWriter()))
+      );
+    }
+  }
 }